@@ -0,0 +1,24 @@
+package com.eroom.erooja.common.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Slice 응답에 함께 내려주는 대략적인 전체 건수 캐시.
+ * 무한 스크롤 화면은 정확한 건수가 필요 없으므로 키별 COUNT 결과를 짧은 TTL 동안 재사용한다.
+ */
+@Component
+public class ApproximateCountCache {
+    private final ExpiringCache<String, Long> counts;
+
+    public ApproximateCountCache(@Value("${cacheProperties.countTtlSeconds:30}") long ttlSeconds,
+                                 @Value("${cacheProperties.countMaxKeys:10000}") int maxKeys) {
+        this.counts = new ExpiringCache<>(maxKeys, ttlSeconds * 1000);
+    }
+
+    public long get(String key, LongSupplier counter) {
+        return counts.get(key, k -> counter.getAsLong());
+    }
+}
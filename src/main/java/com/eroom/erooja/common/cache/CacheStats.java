@@ -0,0 +1,18 @@
+package com.eroom.erooja.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private int size;
+
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,176 @@
+package com.eroom.erooja.common.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 최대 크기(LRU)와 TTL 로 만료되는 간단한 인메모리 캐시.
+ * 값 계산(loader)은 락 밖에서 수행하므로 동시에 같은 키를 요청하면 한 번 이상 계산될 수 있다.
+ * 계산하는 동안 무효화가 있었으면 계산 전 데이터로 만든 값일 수 있으므로 저장하지 않고 돌려주기만 한다.
+ */
+public class ExpiringCache<K, V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    /* 무효화할 때마다 올린다. 계산 시작 때와 다르면 그 사이 무효화가 있었던 것이다. */
+    private long generation;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long loadGeneration = currentGeneration();
+        V value = loader.apply(key);
+        putIfNotInvalidatedSince(key, value, loadGeneration);
+        return value;
+    }
+
+    /**
+     * 캐시에 없는 키만 모아 loader 로 한 번에 계산한다. loader 가 돌려주지 않은 키는 결과에도 캐시에도 담지 않는다.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> values = new HashMap<>();
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            Optional<V> cached = getIfPresent(key);
+            if (cached.isPresent()) {
+                values.put(key, cached.get());
+            } else {
+                missingKeys.add(key);
+            }
+        }
+
+        if (missingKeys.isEmpty()) {
+            return values;
+        }
+
+        long loadGeneration = currentGeneration();
+        Map<K, V> loaded = loader.apply(missingKeys);
+        putAllIfNotInvalidatedSince(loaded, loadGeneration);
+        values.putAll(loaded);
+        return values;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void putIfNotInvalidatedSince(K key, V value, long loadGeneration) {
+        if (generation == loadGeneration) {
+            put(key, value);
+        }
+    }
+
+    private synchronized void putAllIfNotInvalidatedSince(Map<K, V> values, long loadGeneration) {
+        if (generation == loadGeneration) {
+            values.forEach(this::put);
+        }
+    }
+
+    public synchronized Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hitCount.incrementAndGet();
+        return Optional.ofNullable(entry.value);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidateIf(BiPredicate<K, V> predicate) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        evictionCount.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(getHitCount(), getMissCount(), getEvictionCount(), size());
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
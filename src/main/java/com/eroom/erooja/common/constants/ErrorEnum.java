@@ -45,17 +45,21 @@ public enum ErrorEnum {
     GOAL_INVALID_ARGS(HttpStatus.BAD_REQUEST, "GOL_002", "올바르지 않은 파라미터, 혹은 요청 바디입니다."),
     GOAL_AUTH_NOT_ALLOWED(HttpStatus.UNAUTHORIZED, "GOL_003", "목표에 대한 권한이없습니다."),
     GOAL_TERMINATED(HttpStatus.CONFLICT, "GOL_004", "종료된 목표입니다."),
+    GOAL_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "GOL_005", "올바르지 않은 커서이거나, 커서와 정렬 조건이 일치하지 않습니다."),
     /* 목표 관련 오류 메세지 정의 끝 */
 
     /* 할일 CRUD 오류 메세지 정의 */
-    TODO_PRIORITY_NOT_CORRECT(HttpStatus.BAD_REQUEST, "TOD_001", "할일 우선순위는 0부터 1씩 차례대로 존재해야합니다."),
+    TODO_PRIORITY_NOT_CORRECT(HttpStatus.BAD_REQUEST, "TOD_001", "할일 우선순위는 앞에서부터 커지는 순서로 존재해야합니다."),
     TODO_NOT_FOUND(HttpStatus.NOT_FOUND, "TOD_001", "존재하지 않은 할일입니다."),
     TODO_NOT_OWNER(HttpStatus.CONFLICT, "TOD_001", "자신의 것이 아닌 할일입니다."),
+    TODO_POSITION_NOT_CORRECT(HttpStatus.BAD_REQUEST, "TOD_001", "할일을 옮길 위치가 목록 범위를 벗어났습니다."),
     /* 할일 CRUD 오류 메세지 정의 끝 */
 
     /* 목표참여 CRUD 오류 메세지 정의 */
     GOAL_JOIN_ALREADY_EXIST(HttpStatus.BAD_REQUEST, "GOJ_001", "이미 목표담기를 했습니다. 중복담기 불가능합니다."),
     GOAL_JOIN_NOT_FOUND(HttpStatus.BAD_REQUEST, "GOJ_002", "참여하고 있지 않는 목표입니다."),
+    GOAL_JOIN_COPY_OWN_TODO(HttpStatus.BAD_REQUEST, "GOJ_003", "자신의 할일은 복사해서 담을 수 없습니다."),
+    GOAL_JOIN_COPY_EMPTY_TODO(HttpStatus.BAD_REQUEST, "GOJ_004", "복사할 할일이 없습니다."),
     /* 목표참여 CRUD 오류 메세지 정의 끝 */
 
     /* 알람 CRUD 오류 메세지 정의 */
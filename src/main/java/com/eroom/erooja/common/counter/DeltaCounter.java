@@ -0,0 +1,43 @@
+package com.eroom.erooja.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감분을 LongAdder 에 모아 두는 카운터. 같은 키를 여러 스레드가 동시에 올려도 락 없이 셀이 나뉘어 쌓인다.
+ * drain 은 읽은 만큼만 빼므로 읽는 도중 들어온 증가분은 다음 drain 으로 넘어간다.
+ * 키는 지우지 않는다. 지운 뒤 늦게 도착한 증가분이 사라질 수 있기 때문이다.
+ */
+public class DeltaCounter<K> {
+    private final Map<K, LongAdder> adders = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        adders.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    public long pending(K key) {
+        LongAdder adder = adders.get(key);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 쌓인 증감분을 꺼내고 그만큼 카운터에서 뺀다. 0 인 키는 담지 않는다.
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        adders.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0L) {
+                adder.add(-delta);
+                drained.put(key, delta);
+            }
+        });
+        return drained;
+    }
+
+    public void clear() {
+        adders.clear();
+    }
+}
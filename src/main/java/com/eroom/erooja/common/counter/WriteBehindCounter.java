@@ -0,0 +1,113 @@
+package com.eroom.erooja.common.counter;
+
+import com.eroom.erooja.common.transaction.AfterCommit;
+import com.eroom.erooja.domain.model.MemberGoalPK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 목표 참여 인원(join_count)과 참여 복사 횟수(copy_count)를 메모리에 모았다가 주기적으로 한꺼번에 반영한다.
+ * 행을 읽고 더해 저장하지 않고 UPDATE ... SET join_count = join_count + ? 로 반영하므로 동시 참여에도 증가분이 사라지지 않고,
+ * 인기 목표의 행 락을 참여 요청마다 잡지 않는다.
+ *
+ * 증가분은 트랜잭션이 커밋된 뒤에 쌓이며, 조회 시 DB 값에 아직 반영되지 않은 값(pending)을 더해 보여준다.
+ * DB 의 join_count 로 정렬하는 목록은 flushIntervalMillis 만큼 늦게 바뀐다.
+ */
+@Component
+public class WriteBehindCounter {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindCounter.class);
+
+    private static final String JOIN_COUNT_SQL = "UPDATE goal SET join_count = join_count + ? WHERE id = ?";
+    private static final String COPY_COUNT_SQL = "UPDATE member_goal SET copy_count = copy_count + ? WHERE uid = ? AND goal_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final DeltaCounter<Long> joinCounts = new DeltaCounter<>();
+    private final DeltaCounter<MemberGoalPK> copyCounts = new DeltaCounter<>();
+
+    public WriteBehindCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              @Value("${counterProperties.batchSize:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void increaseJoinCount(Long goalId) {
+        AfterCommit.run(() -> joinCounts.add(goalId, 1L));
+    }
+
+    public void increaseCopyCount(String uid, Long goalId) {
+        AfterCommit.run(() -> copyCounts.add(new MemberGoalPK(uid, goalId), 1L));
+    }
+
+    public int pendingJoinCount(Long goalId) {
+        return (int) joinCounts.pending(goalId);
+    }
+
+    public int pendingCopyCount(String uid, Long goalId) {
+        return (int) copyCounts.pending(new MemberGoalPK(uid, goalId));
+    }
+
+    /**
+     * @return 이번에 반영한 행 수
+     */
+    @Scheduled(fixedDelayString = "${counterProperties.flushIntervalMillis:1000}")
+    public synchronized int flush() {
+        return flush(joinCounts, JOIN_COUNT_SQL, (goalId, delta) -> new Object[]{delta, goalId})
+                + flush(copyCounts, COPY_COUNT_SQL, (pk, delta) -> new Object[]{delta, pk.getUid(), pk.getGoalId()});
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        logger.info("종료 전 카운터 반영 완료 - {}건", flushed);
+    }
+
+    /**
+     * 반영하지 않은 증가분을 버린다. DB 를 초기화해 ID 가 다시 쓰일 때 호출한다.
+     */
+    public synchronized void clear() {
+        joinCounts.clear();
+        copyCounts.clear();
+    }
+
+    /* batchSize 단위로 나눠 각각 한 트랜잭션에서 반영하고, 실패한 묶음부터는 카운터에 되돌려 다음 주기에 다시 시도한다. */
+    private <K> int flush(DeltaCounter<K> counter, String sql, BiFunction<K, Long, Object[]> toArgs) {
+        Map<K, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<K> keys = new ArrayList<>(deltas.keySet());
+        int flushed = 0;
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<K> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+            chunk.forEach(key -> batchArgs.add(toArgs.apply(key, deltas.get(key))));
+
+            try {
+                transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(sql, batchArgs));
+                flushed += chunk.size();
+            } catch (DataAccessException e) {
+                logger.error("카운터 반영 실패, 다음 주기에 다시 시도합니다. - 남은 {}건, {}", keys.size() - from, e.getMessage());
+                keys.subList(from, keys.size()).forEach(key -> counter.add(key, deltas.get(key)));
+                break;
+            }
+        }
+        return flushed;
+    }
+}
@@ -0,0 +1,30 @@
+package com.eroom.erooja.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * COUNT 쿼리 없이 size + 1 건으로 다음 페이지 여부만 판단하는 목록 응답.
+ * approximateTotal 은 요청한 경우에만, 짧게 캐시된 COUNT 결과로 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int number;
+    private int size;
+    private boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long approximateTotal;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long approximateTotal) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), approximateTotal);
+    }
+}
@@ -0,0 +1,58 @@
+package com.eroom.erooja.common.migration;
+
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * V{버전}__{설명}.sql 이름 규칙을 따르는 마이그레이션 스크립트 하나.
+ * 체크섬은 줄바꿈 차이(\r\n, \n)에 영향받지 않도록 줄 단위로 계산한다.
+ */
+@Getter
+public class SchemaMigration implements Comparable<SchemaMigration> {
+    private static final Pattern FILE_NAME = Pattern.compile("^V(\\d+)__(.+)\\.sql$");
+
+    private final int version;
+    private final String description;
+    private final long checksum;
+    private final Resource script;
+
+    SchemaMigration(int version, String description, long checksum, Resource script) {
+        this.version = version;
+        this.description = description;
+        this.checksum = checksum;
+        this.script = script;
+    }
+
+    public static SchemaMigration of(Resource script) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(String.valueOf(script.getFilename()));
+        if (!matcher.matches()) {
+            throw new IllegalStateException("마이그레이션 파일 이름이 V{버전}__{설명}.sql 형식이 아닙니다. - " + script.getFilename());
+        }
+
+        String content = StreamUtils.copyToString(script.getInputStream(), StandardCharsets.UTF_8);
+        return new SchemaMigration(Integer.parseInt(matcher.group(1)),
+                matcher.group(2).replace('_', ' '),
+                checksumOf(content),
+                script);
+    }
+
+    static long checksumOf(String content) {
+        CRC32 crc32 = new CRC32();
+        for (String line : content.split("\\r?\\n")) {
+            crc32.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return crc32.getValue();
+    }
+
+    @Override
+    public int compareTo(SchemaMigration other) {
+        return Integer.compare(version, other.version);
+    }
+}
@@ -0,0 +1,27 @@
+package com.eroom.erooja.common.migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SchemaMigrationConfig {
+    @Bean(name = SchemaMigrator.BEAN_NAME)
+    public SchemaMigrator schemaMigrator(DataSource dataSource,
+                                         @Value("${migrationProperties.location:classpath:db/migration}") String location,
+                                         @Value("${migrationProperties.baselineVersion:1}") int baselineVersion,
+                                         @Value("${migrationProperties.enabled:true}") boolean enabled) {
+        return new SchemaMigrator(dataSource, location, baselineVersion, enabled);
+    }
+
+    /**
+     * JPA 가 스키마를 검증하기 전에 마이그레이션이 끝나도록 EntityManagerFactory 가 SchemaMigrator 에 의존하게 한다.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaMigrator.BEAN_NAME);
+    }
+}
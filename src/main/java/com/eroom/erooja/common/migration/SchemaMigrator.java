@@ -0,0 +1,180 @@
+package com.eroom.erooja.common.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 애플리케이션 시작 시 db/migration 의 V{버전}__{설명}.sql 을 버전 순서대로 한 번씩 실행하고 schema_version 에 기록한다.
+ * 스키마는 이 마이그레이션이 관리하며, JPA 는 만들어진 스키마를 검증(validate)만 한다.
+ *
+ * schema_version 이 없는데 이미 테이블이 있는 DB (ddl-auto: update 시절의 DB) 는
+ * baselineVersion 까지를 적용된 것으로 기록하고 그 다음 버전부터 실행한다.
+ */
+public class SchemaMigrator implements InitializingBean {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    public static final String BEAN_NAME = "schemaMigrator";
+    static final String HISTORY_TABLE = "schema_version";
+    private static final String BASELINE_PROBE_TABLE = "goal";
+    private static final String BASELINE_DESCRIPTION = "<< baseline >>";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+    private final String location;
+    private final int baselineVersion;
+    private final boolean enabled;
+
+    public SchemaMigrator(DataSource dataSource, String location, int baselineVersion, boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.location = location;
+        this.baselineVersion = baselineVersion;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            logger.warn("스키마 마이그레이션이 비활성화되어 있습니다.");
+            return;
+        }
+        migrate();
+    }
+
+    /**
+     * @return 이번에 실행한 마이그레이션 수
+     */
+    public synchronized int migrate() throws IOException {
+        List<SchemaMigration> migrations = findMigrations();
+
+        if (!tableExists(HISTORY_TABLE)) {
+            boolean existingSchema = tableExists(BASELINE_PROBE_TABLE);
+            createHistoryTable();
+            if (existingSchema) {
+                baseline();
+            }
+        }
+
+        Map<Integer, Long> appliedChecksums = appliedChecksums();
+        validate(migrations, appliedChecksums);
+
+        int appliedCount = 0;
+        for (SchemaMigration migration : migrations) {
+            if (appliedChecksums.containsKey(migration.getVersion())) continue;
+
+            apply(migration);
+            appliedCount++;
+        }
+
+        logger.info("스키마 마이그레이션 완료 - 현재 버전 V{}, 이번에 적용 {}건",
+                migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion(), appliedCount);
+        return appliedCount;
+    }
+
+    List<SchemaMigration> findMigrations() throws IOException {
+        List<SchemaMigration> migrations = new ArrayList<>();
+        Set<Integer> versions = new HashSet<>();
+        for (Resource script : resourceResolver.getResources(location + "/V*__*.sql")) {
+            SchemaMigration migration = SchemaMigration.of(script);
+            if (!versions.add(migration.getVersion())) {
+                throw new IllegalStateException("같은 버전의 마이그레이션이 여러 개 있습니다. - V" + migration.getVersion());
+            }
+            migrations.add(migration);
+        }
+        Collections.sort(migrations);
+        return migrations;
+    }
+
+    private void validate(List<SchemaMigration> migrations, Map<Integer, Long> appliedChecksums) {
+        int latestApplied = appliedChecksums.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+
+        for (SchemaMigration migration : migrations) {
+            Long appliedChecksum = appliedChecksums.get(migration.getVersion());
+            if (appliedChecksum == null) {
+                if (migration.getVersion() < latestApplied) {
+                    throw new IllegalStateException("이미 적용된 V" + latestApplied + " 보다 낮은 버전의 마이그레이션이 추가되었습니다. - V"
+                            + migration.getVersion());
+                }
+            } else if (appliedChecksum != 0L && appliedChecksum != migration.getChecksum()) {
+                throw new IllegalStateException("이미 적용된 마이그레이션의 내용이 변경되었습니다. 새 버전으로 추가해야 합니다. - V"
+                        + migration.getVersion());
+            }
+        }
+    }
+
+    private void apply(SchemaMigration migration) {
+        logger.info("스키마 마이그레이션 적용 - V{} {}", migration.getVersion(), migration.getDescription());
+
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.getScript(), StandardCharsets.UTF_8));
+        } catch (SQLException e) {
+            throw new IllegalStateException("스키마 마이그레이션 실패 - V" + migration.getVersion(), e);
+        }
+
+        record(migration.getVersion(), migration.getDescription(), migration.getChecksum());
+    }
+
+    private void createHistoryTable() {
+        jdbcTemplate.execute("create table " + HISTORY_TABLE + " (" +
+                "version integer not null, " +
+                "description varchar(200) not null, " +
+                "checksum bigint not null, " +
+                "installed_on datetime not null, " +
+                "primary key (version))");
+    }
+
+    /* 기준선 이하 버전은 실행하지 않으므로 체크섬 0 으로 기록하고 검증에서 제외한다. */
+    private void baseline() {
+        logger.warn("schema_version 없이 테이블이 존재하는 DB 입니다. V{} 를 기준선으로 기록합니다.", baselineVersion);
+        record(baselineVersion, BASELINE_DESCRIPTION, 0L);
+    }
+
+    private void record(int version, String description, long checksum) {
+        jdbcTemplate.update("insert into " + HISTORY_TABLE + " (version, description, checksum, installed_on) values (?, ?, ?, ?)",
+                version, description, checksum, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private Map<Integer, Long> appliedChecksums() {
+        Map<Integer, Long> checksums = new HashMap<>();
+        jdbcTemplate.query("select version, checksum from " + HISTORY_TABLE,
+                rs -> {
+                    checksums.put(rs.getInt("version"), rs.getLong("checksum"));
+                });
+        return checksums;
+    }
+
+    private boolean tableExists(String tableName) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), null, new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    if (tableName.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("테이블 정보를 읽을 수 없습니다. - " + tableName, e);
+        }
+    }
+}
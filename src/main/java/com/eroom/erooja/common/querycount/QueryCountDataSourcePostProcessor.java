@@ -0,0 +1,17 @@
+package com.eroom.erooja.common.querycount;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class QueryCountDataSourcePostProcessor implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof QueryCountingDataSource)) {
+            return new QueryCountingDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,74 @@
+package com.eroom.erooja.common.querycount;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 SQL 실행 수, JDBC 시간, 같은 모양 SQL 의 최대 반복 수를 잰다.
+ * 예산을 넘으면 경고 로그를 남기고, 운영(production) 외 프로필에서는 응답 헤더로도 내려준다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    public static final String QUERY_MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+    private final int statementBudget;
+    private final int repeatBudget;
+    private final boolean exposeHeaders;
+
+    public QueryCountFilter(Environment environment,
+                            @Value("${queryCountProperties.statementBudget:30}") int statementBudget,
+                            @Value("${queryCountProperties.repeatBudget:10}") int repeatBudget) {
+        this.statementBudget = statementBudget;
+        this.repeatBudget = repeatBudget;
+        this.exposeHeaders = !environment.acceptsProfiles(Profiles.of("production"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = exposeHeaders ? new ContentCachingResponseWrapper(response) : null;
+        QueryStats stats = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, cachingResponse == null ? response : cachingResponse);
+        } finally {
+            QueryCounter.stop(stats);
+            warnIfOverBudget(request, stats);
+
+            if (cachingResponse != null) {
+                cachingResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+                cachingResponse.setHeader(QUERY_TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+                cachingResponse.setHeader(QUERY_MAX_REPEAT_HEADER, String.valueOf(stats.getMaxRepeat()));
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void warnIfOverBudget(HttpServletRequest request, QueryStats stats) {
+        if (stats.getStatementCount() <= statementBudget && stats.getMaxRepeat() <= repeatBudget) {
+            return;
+        }
+
+        logger.warn("쿼리 예산 초과 - {} {}, 쿼리 {}건, JDBC {}ms, 반복 쿼리 {}",
+                request.getMethod(), request.getRequestURI(),
+                stats.getStatementCount(), stats.getJdbcMillis(), stats.getRepeatedShapes(repeatBudget + 1));
+    }
+}
@@ -0,0 +1,41 @@
+package com.eroom.erooja.common.querycount;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 열린 측정 구간에 SQL 실행을 기록한다. 구간은 중첩될 수 있으며 실행은 열린 모든 구간에 더해진다.
+ * 열린 구간이 없으면 (스케줄러, 비동기 작업 등) 아무것도 기록하지 않는다.
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<Deque<QueryStats>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private QueryCounter() {
+    }
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        SCOPES.get().push(stats);
+        return stats;
+    }
+
+    public static void stop(QueryStats stats) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return;
+        }
+
+        for (QueryStats stats : scopes) {
+            stats.record(sql, elapsedNanos);
+        }
+    }
+}
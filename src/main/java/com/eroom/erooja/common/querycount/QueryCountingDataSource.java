@@ -0,0 +1,72 @@
+package com.eroom.erooja.common.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * 커넥션과 Statement 를 프록시로 감싸 SQL 실행마다 실행 시간과 함께 QueryCounter 에 기록하는 DataSource.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(super.getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            return proxyStatement((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall":
+                            return proxyStatement((Statement) result, CallableStatement.class, (String) args[0]);
+                        case "createStatement":
+                            return proxyStatement((Statement) result, Statement.class, null);
+                        default:
+                            return result;
+                    }
+                });
+    }
+
+    private static Object proxyStatement(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+
+                    String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                    long startedAt = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        QueryCounter.record(sql, System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
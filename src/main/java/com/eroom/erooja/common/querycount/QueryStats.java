@@ -0,0 +1,62 @@
+package com.eroom.erooja.common.querycount;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 한 구간(요청, 테스트 블록)에서 실행된 SQL 의 수, JDBC 실행 시간, 모양(shape)별 실행 횟수.
+ * 모양은 리터럴과 IN 목록을 ? 로 바꾼 SQL 로, 같은 모양이 여러 번 실행되면 N+1 을 의심할 수 있다.
+ */
+public class QueryStats {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount = 0;
+    private long jdbcNanos = 0L;
+    private final Map<String, Integer> countByShape = new HashMap<>();
+
+    void record(String sql, long elapsedNanos) {
+        statementCount++;
+        jdbcNanos += elapsedNanos;
+        countByShape.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 모양의 실행 횟수.
+     */
+    public int getMaxRepeat() {
+        return countByShape.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * minRepeat 번 이상 실행된 SQL 모양과 실행 횟수, 많이 실행된 순서.
+     */
+    public Map<String, Integer> getRepeatedShapes(int minRepeat) {
+        return countByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minRepeat)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
@@ -0,0 +1,27 @@
+package com.eroom.erooja.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤에만 반영해야 하는 메모리 상태(카운터, 캐시, 색인) 변경을 미룬다.
+ * 트랜잭션 밖에서 부르면 바로 실행하고, 롤백되면 실행하지 않는다.
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
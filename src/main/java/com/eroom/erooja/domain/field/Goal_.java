@@ -7,6 +7,9 @@ public class Goal_ {
     public final static String startDt = "startDt";
     public final static String endDt = "endDt";
     public final static String isEnd = "isEnd";
+    public final static String isDateFixed = "isDateFixed";
+    public final static String createDt = "createDt";
+    public final static String updateDt = "updateDt";
     public final static String description = "description";
     public final static String goalJobInterests = "goalJobInterests";
 }
\ No newline at end of file
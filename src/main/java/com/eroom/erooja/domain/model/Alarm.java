@@ -17,7 +17,7 @@ import javax.persistence.*;
 @Entity
 public class Alarm extends AuditProperties {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "pooled_id")
     private Long id;
 
     private String title;
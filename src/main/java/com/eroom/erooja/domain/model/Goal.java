@@ -4,6 +4,7 @@ import com.eroom.erooja.domain.common.AuditProperties;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -17,10 +18,11 @@ import java.util.stream.Collectors;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 @Entity
 public class Goal extends AuditProperties {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "pooled_id")
     private Long id;
 
     private String title;
@@ -31,6 +33,11 @@ public class Goal extends AuditProperties {
     @Column(nullable = false)
     private int joinCount = 1;
 
+    /* 아직 DB 에 반영되지 않은 참여 인원 증가분 (WriteBehindCounter) */
+    @JsonIgnore
+    @Transient
+    private int pendingJoinCount = 0;
+
     @Column(nullable = false)
     private Boolean isEnd = false;
 
@@ -71,6 +78,10 @@ public class Goal extends AuditProperties {
         this.goalJobInterests = goalJobInterests;
     }
 
+    public int getJoinCount() {
+        return joinCount + pendingJoinCount;
+    }
+
     public int increaseJoinCount(int count) {
         return this.joinCount += count;
     }
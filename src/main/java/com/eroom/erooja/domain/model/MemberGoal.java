@@ -17,12 +17,14 @@ import javax.persistence.IdClass;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @EqualsAndHashCode(of = {"uid"}, callSuper = false)
 @NoArgsConstructor
@@ -30,6 +32,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @IdClass(MemberGoalPK.class)
+@DynamicUpdate
 @Entity
 public class MemberGoal extends AuditProperties {
     @Id
@@ -48,6 +51,21 @@ public class MemberGoal extends AuditProperties {
     @Column(nullable = false)
     private int copyCount = 0;
 
+    /* 아직 DB 에 반영되지 않은 복사 횟수 증가분 (WriteBehindCounter) */
+    @JsonIgnore
+    @Transient
+    private int pendingCopyCount = 0;
+
+    @Column(nullable = false)
+    private int todoTotal = 0;
+
+    @Column(nullable = false)
+    private int todoDone = 0;
+
+    /* todoDone / todoTotal, 참여자 목록을 달성률로 정렬할 수 있도록 저장해 둔다. */
+    @Column(nullable = false)
+    private double checkedTodoRate = 0;
+
     private LocalDateTime startDt;
 
     private LocalDateTime endDt;
@@ -80,6 +98,10 @@ public class MemberGoal extends AuditProperties {
         this.endDt = endDt;
     }
 
+    public int getCopyCount() {
+        return copyCount + pendingCopyCount;
+    }
+
     public int increaseCopyCount(){
         return copyCount++;
     }
@@ -2,6 +2,7 @@ package com.eroom.erooja.domain.model;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Column;
@@ -9,6 +10,7 @@ import javax.persistence.Id;
 import java.io.Serializable;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Getter
 @AllArgsConstructor
 @NoArgsConstructor
 public class MemberGoalPK implements Serializable {
@@ -17,8 +17,11 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 public class Todo extends AuditProperties {
+    /* 저장하는 우선순위의 간격, 할 일 하나를 옮길 때 이웃 사이의 빈 값을 써서 한 행만 바꾼다. */
+    public static final int PRIORITY_GAP = 1024;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "pooled_id")
     private Long id;
 
     private String content;
@@ -0,0 +1,15 @@
+/**
+ * Goal, Todo, Alarm 이 함께 쓰는 id 생성기(pooled_id).
+ * hibernate_sequence 를 한 번 갱신할 때 50 개의 id 를 받아 두고(pooled-lo) 메모리에서 나눠 주므로,
+ * 행마다 채번 테이블을 왕복하지 않고 INSERT 를 JDBC 배치로 묶을 수 있다.
+ * 저장된 next_val 을 다음 블록의 시작값으로 쓰기 때문에 같은 테이블을 1 씩 쓰는 다른 엔티티와 id 가 겹치지 않는다.
+ */
+@GenericGenerator(name = "pooled_id", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")
+})
+package com.eroom.erooja.domain.model;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
@@ -4,10 +4,12 @@ import com.eroom.erooja.domain.enums.JobInterestType;
 import com.eroom.erooja.domain.model.JobInterest;
 import com.eroom.erooja.domain.model.MemberJobInterest;
 import com.eroom.erooja.domain.model.Members;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,4 +23,7 @@ public interface MemberJobInterestRepository extends JpaRepository<MemberJobInte
     MemberJobInterest getByMember_UidAndJobInterest_Id(String uid, Long id);
 
     List<MemberJobInterest> getAllByMember_Uid(String uid);
+
+    @EntityGraph(attributePaths = "jobInterest")
+    List<MemberJobInterest> findAllByMember_UidIn(Collection<String> uids);
 }
@@ -1,11 +1,13 @@
 package com.eroom.erooja.domain.repos;
 
 import com.eroom.erooja.domain.model.Members;
+import com.eroom.erooja.features.goal.dto.GoalUserImage;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +20,14 @@ public interface MemberRepository extends JpaRepository<Members, String> {
             "AND g.goalId = :goalId " +
             "AND m.imagePath IS NOT NULL")
     List<String> getUserImageListByGoalId(Long goalId, Pageable pageable);
+
+    @Query(value = "SELECT ranked.goal_id AS goalId, ranked.image_path AS imagePath FROM (" +
+            "SELECT g.goal_id, m.image_path, " +
+            "ROW_NUMBER() OVER (PARTITION BY g.goal_id ORDER BY g.create_dt, g.uid) AS image_rank " +
+            "FROM member_goal g " +
+            "JOIN members m ON m.member_auth_uid = g.uid " +
+            "WHERE g.goal_id IN (:goalIds) " +
+            "AND m.image_path IS NOT NULL) ranked " +
+            "WHERE ranked.image_rank <= :limit", nativeQuery = true)
+    List<GoalUserImage> getUserImageListByGoalIds(Collection<Long> goalIds, int limit);
 }
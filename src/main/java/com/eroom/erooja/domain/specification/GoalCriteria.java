@@ -1,24 +1,38 @@
 package com.eroom.erooja.domain.specification;
 
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.features.goal.dto.GoalCursor;
 import com.eroom.erooja.features.goal.dto.GoalSearchRequestDTO;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.dto.JobInterestMatch;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@EqualsAndHashCode(exclude = "cursor")
 public class GoalCriteria {
     private String field;
     private String keyword;
     private LocalDateTime fromDt;
     private LocalDateTime toDt;
     private Set<Long> jobInterestIdSet;
+    private JobInterestMatch jobInterestMatch;
+    private GoalSortBy goalSortBy;
+    private Sort.Direction direction;
+    private GoalCursor cursor;
     private PageRequest pageRequest;
 
     public static GoalCriteria of(GoalSearchRequestDTO searchRequest) throws UnsupportedEncodingException {
@@ -28,10 +42,67 @@ public class GoalCriteria {
                     .fromDt(searchRequest.getFromDt())
                     .toDt(searchRequest.getToDt())
                     .jobInterestIdSet(searchRequest.getJobInterestIds())
+                    .jobInterestMatch(searchRequest.getJobInterestMatch())
+                    .goalSortBy(searchRequest.getGoalSortBy())
+                    .direction(searchRequest.getDirection())
+                    .cursor(StringUtils.isEmpty(searchRequest.getCursor()) ? null
+                            : GoalCursor.decode(searchRequest.getCursor(), searchRequest.getGoalSortBy(), searchRequest.getDirection()))
                     .pageRequest(pageRequestOf(searchRequest))
                 .build();
     }
 
+    /**
+     * 결과가 같은 검색 조건이 같은 값을 갖도록 정리한 조건, 검색 결과 캐시의 키로 사용한다.
+     */
+    public GoalCriteria normalized() {
+        String trimmedKeyword = StringUtils.isEmpty(keyword) || keyword.trim().isEmpty() ? null : keyword.trim();
+        GoalCriteria normalized = toBuilder()
+                .keyword(trimmedKeyword)
+                .jobInterestIdSet(jobInterestIdSet == null || jobInterestIdSet.isEmpty() ? null : jobInterestIdSet)
+                .jobInterestMatch(getJobInterestMatchOrDefault())
+                .cursor(null)
+                .build();
+
+        if (normalized.getKeywordFields().isEmpty()) {
+            return normalized.toBuilder().field(null).keyword(null).build();
+        }
+        return normalized;
+    }
+
+    public JobInterestMatch getJobInterestMatchOrDefault() {
+        return jobInterestMatch == null ? JobInterestMatch.ANY : jobInterestMatch;
+    }
+
+    public boolean isRankedByRelevance() {
+        return goalSortBy == GoalSortBy.RELEVANCE && !StringUtils.isEmpty(keyword);
+    }
+
+    public boolean isRankedByTrend() {
+        return goalSortBy == GoalSortBy.TRENDING;
+    }
+
+    /**
+     * 키워드 조건을 적용할 필드 목록, 관련도 정렬에서 필드를 지정하지 않으면 제목과 설명 모두에서 찾는다.
+     */
+    public List<String> getKeywordFields() {
+        if (StringUtils.isEmpty(keyword)) {
+            return Collections.emptyList();
+        } else if (field != null) {
+            return Collections.singletonList(field);
+        } else if (isRankedByRelevance()) {
+            return Arrays.asList(Goal_.title, Goal_.description);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 커서 페이지네이션용 정렬, 정렬 키가 같은 목표들 사이의 순서를 ID 로 고정한다.
+     */
+    public Sort getSeekSort() {
+        Sort sort = Sort.by(direction, goalSortBy.getField());
+        return Goal_.id.equals(goalSortBy.getField()) ? sort : sort.and(Sort.by(direction, Goal_.id));
+    }
+
     private static PageRequest pageRequestOf(GoalSearchRequestDTO searchRequest) {
         return PageRequest.of(
                 searchRequest.getPage(), searchRequest.getSize(),
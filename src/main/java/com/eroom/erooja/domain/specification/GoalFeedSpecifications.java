@@ -0,0 +1,43 @@
+package com.eroom.erooja.domain.specification;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.MemberGoal;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.*;
+
+/**
+ * 관심직무 목표 피드 조건. 관심직무가 달린 진행 중인 목표 중 사용자가 참여하지 않은 목표를 동적 정렬과 함께 조회한다.
+ * 참여한 목표 제외는 NOT IN 대신 NOT EXISTS 로 걸어, 목표마다 member_goal 기본키 (uid, goal_id) 한 건만 조회하도록 한다.
+ */
+public class GoalFeedSpecifications implements Specification<Goal> {
+    private Long interestId;
+    private String uid;
+
+    @Override
+    public Predicate toPredicate(Root<Goal> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder cb) {
+        Predicate hasInterest = cb.equal(root.join(Goal_.goalJobInterests, JoinType.INNER)
+                .get("jobInterest")
+                .get("id"), interestId);
+
+        Predicate notEnded = cb.isFalse(root.get(Goal_.isEnd));
+
+        if (uid == null) {
+            return cb.and(hasInterest, notEnded);
+        }
+
+        Subquery<Long> joined = criteriaQuery.subquery(Long.class);
+        Root<MemberGoal> memberGoal = joined.from(MemberGoal.class);
+        joined.select(memberGoal.get("goalId"))
+                .where(cb.equal(memberGoal.get("uid"), uid),
+                        cb.equal(memberGoal.get("goalId"), root.get(Goal_.id)));
+
+        return cb.and(hasInterest, notEnded, cb.not(cb.exists(joined)));
+    }
+
+    public GoalFeedSpecifications(Long interestId, String uid) {
+        this.interestId = interestId;
+        this.uid = uid;
+    }
+}
@@ -0,0 +1,50 @@
+package com.eroom.erooja.domain.specification;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.dto.GoalCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.*;
+
+/**
+ * 커서 이후의 목표만 남기는 seek 조건, (k, id) > (?, ?) 를 풀어 쓴 형태이다.
+ * NULL 정렬 키는 MariaDB 와 같이 오름차순에서 가장 앞, 내림차순에서 가장 뒤에 온다고 본다.
+ */
+public class GoalSeekSpecifications implements Specification<Goal> {
+    private GoalCursor cursor;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate toPredicate(Root<Goal> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder cb) {
+        Path<Long> id = root.get(Goal_.id);
+        boolean ascending = cursor.getDirection() == Sort.Direction.ASC;
+        Predicate afterId = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+        String field = cursor.getGoalSortBy().getField();
+        if (Goal_.id.equals(field)) {
+            return afterId;
+        }
+
+        Expression<Comparable> key = root.get(field);
+        Comparable sortKey = cursor.getSortKey();
+
+        if (sortKey == null) {
+            return ascending
+                    ? cb.or(cb.and(cb.isNull(key), afterId), cb.isNotNull(key))
+                    : cb.and(cb.isNull(key), afterId);
+        }
+
+        Predicate afterKey = ascending ? cb.greaterThan(key, sortKey) : cb.lessThan(key, sortKey);
+        Predicate sameKeyAfterId = cb.and(cb.equal(key, sortKey), afterId);
+
+        return ascending
+                ? cb.or(afterKey, sameKeyAfterId)
+                : cb.or(afterKey, sameKeyAfterId, cb.isNull(key));
+    }
+
+    public GoalSeekSpecifications(GoalCursor cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -1,21 +1,25 @@
 package com.eroom.erooja.domain.specification;
 
 import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.GoalJobInterest;
+import com.eroom.erooja.features.goal.dto.JobInterestMatch;
 import com.eroom.erooja.domain.field.Goal_;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.util.StringUtils;
 
 import javax.persistence.criteria.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 public class GoalSpecifications implements Specification<Goal> {
 
     private GoalCriteria goalCriteria;
+    private Set<Long> keywordHitIds;
+    private Set<Long> interestHitIds;
 
     @Override
     public Predicate toPredicate(Root<Goal> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder cb) {
@@ -32,11 +36,22 @@ public class GoalSpecifications implements Specification<Goal> {
         }
 
         if (goalCriteria.getJobInterestIdSet() != null && goalCriteria.getJobInterestIdSet().size() > 0) {
-            andSpec.add(isJobInterestIn(goalCriteria.getJobInterestIdSet()));
+            if (interestHitIds != null) {
+                andSpec.add(isIdIn(interestHitIds));
+            } else if (goalCriteria.getJobInterestMatchOrDefault() == JobInterestMatch.ALL) {
+                goalCriteria.getJobInterestIdSet()
+                        .forEach(jobInterestId -> andSpec.add(hasJobInterestIn(Collections.singleton(jobInterestId))));
+            } else {
+                andSpec.add(hasJobInterestIn(goalCriteria.getJobInterestIdSet()));
+            }
         }
 
-        if (goalCriteria.getField() != null && !StringUtils.isEmpty(goalCriteria.getKeyword())) {
-            andSpec.add(like(goalCriteria.getField(), goalCriteria.getKeyword().trim()));
+        List<String> keywordFields = goalCriteria.getKeywordFields();
+        if (!keywordFields.isEmpty()) {
+            if (keywordHitIds != null) {
+                andSpec.add(isIdIn(keywordHitIds));
+            }
+            andSpec.add(likeAny(keywordFields, goalCriteria.getKeyword().trim()));
         }
 
         return cb.and(andSpec.stream()
@@ -56,16 +71,25 @@ public class GoalSpecifications implements Specification<Goal> {
         return (root, query, cb) -> cb.and(cb.like(root.get(field), "%" + keyword + "%"));
     }
 
-    private Specification<Goal> isJobInterestIn(Set<Long> jobInterestIdSet) {
+    private Specification<Goal> likeAny(List<String> fields, String keyword) {
+        return (root, query, cb) -> cb.or(fields.stream()
+                .map(field -> like(field, keyword).toPredicate(root, query, cb))
+                .toArray(Predicate[]::new));
+    }
+
+    private Specification<Goal> isIdIn(Set<Long> ids) {
+        return (root, query, cb) -> root.get(Goal_.id).in(ids);
+    }
+
+    private Specification<Goal> hasJobInterestIn(Set<Long> jobInterestIdSet) {
         return (root, query, cb) -> {
-            Predicate pred = root.join("goalJobInterests", JoinType.INNER)
-                    .get("jobInterest")
-                    .get("id")
-                    .in(jobInterestIdSet);
-            query.distinct(true);
-            return pred;
+            Subquery<Long> goalJobInterest = query.subquery(Long.class);
+            Root<GoalJobInterest> interest = goalJobInterest.from(GoalJobInterest.class);
+            goalJobInterest.select(interest.get("id"))
+                    .where(cb.equal(interest.get("goal"), root),
+                            interest.get("jobInterest").get("id").in(jobInterestIdSet));
+            return cb.exists(goalJobInterest);
         };
-
     }
 
     private Specification<Goal> isStartDtLessThen(LocalDateTime toDt) {
@@ -79,4 +103,15 @@ public class GoalSpecifications implements Specification<Goal> {
     public GoalSpecifications(GoalCriteria goalCriteria) {
         this.goalCriteria = goalCriteria;
     }
+
+    public GoalSpecifications(GoalCriteria goalCriteria, Set<Long> keywordHitIds) {
+        this.goalCriteria = goalCriteria;
+        this.keywordHitIds = keywordHitIds;
+    }
+
+    public GoalSpecifications(GoalCriteria goalCriteria, Set<Long> keywordHitIds, Set<Long> interestHitIds) {
+        this.goalCriteria = goalCriteria;
+        this.keywordHitIds = keywordHitIds;
+        this.interestHitIds = interestHitIds;
+    }
 }
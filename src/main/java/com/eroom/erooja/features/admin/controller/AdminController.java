@@ -1,10 +1,19 @@
 package com.eroom.erooja.features.admin.controller;
 
 import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.counter.WriteBehindCounter;
 import com.eroom.erooja.common.exception.EroojaException;
 import com.eroom.erooja.domain.enums.AuthProvider;
+import com.eroom.erooja.common.cache.CacheStats;
 import com.eroom.erooja.domain.model.JobInterest;
+import com.eroom.erooja.features.goal.cache.GoalSearchCache;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.index.GoalTitleSuggester;
+import com.eroom.erooja.features.goal.recommend.InterestRecommendationMaterializer;
+import com.eroom.erooja.features.goal.trend.GoalTrendCounter;
+import com.eroom.erooja.features.goaljobinterest.index.JobInterestGoalIndex;
 import com.eroom.erooja.features.interest.service.JobInterestService;
+import com.eroom.erooja.features.member.cache.MemberJobInterestCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +36,14 @@ import java.util.List;
 public class AdminController {
     private final static Logger logger = LoggerFactory.getLogger(AdminController.class);
     private final JobInterestService jobInterestService;
+    private final GoalSearchCache goalSearchCache;
+    private final GoalSearchIndex goalSearchIndex;
+    private final JobInterestGoalIndex jobInterestGoalIndex;
+    private final InterestRecommendationMaterializer interestRecommendationMaterializer;
+    private final GoalTitleSuggester goalTitleSuggester;
+    private final GoalTrendCounter goalTrendCounter;
+    private final MemberJobInterestCache memberJobInterestCache;
+    private final WriteBehindCounter writeBehindCounter;
 
     @PersistenceContext
     private EntityManager em;
@@ -49,7 +66,10 @@ public class AdminController {
         em.createNativeQuery("DELETE FROM job_interest WHERE job_group_id is not null").executeUpdate();
         em.createNativeQuery("DELETE FROM job_interest WHERE job_group_id is null").executeUpdate();
 
-        em.createNativeQuery("UPDATE hibernate_sequence SET next_val = 1").executeUpdate();
+        /*
+         * hibernate_sequence 는 되돌리지 않는다. pooled_id 생성기는 실행 중인 서버마다 아직 쓰지 않은 id 블록을 메모리에 들고 있고,
+         * 현재 next_val 은 이미 나눠 준 어떤 블록보다도 크므로 그대로 두어야 초기화 후에도 goal/todo/alarm id 가 겹치지 않는다.
+         */
 
         em.createNativeQuery("INSERT INTO `member_auth` (" +
                         "`uid`, " +
@@ -82,6 +102,14 @@ public class AdminController {
                     " VALUES(:nowDate, :nowDate, '', '어드민', 'EROOJA@1')")
                 .setParameter("nowDate", LocalDateTime.now()).executeUpdate();
 
+        goalSearchCache.invalidateAll();
+        memberJobInterestCache.invalidateAll();
+        writeBehindCounter.clear();
+        goalTrendCounter.clear();
+        goalSearchIndex.rebuild();
+        jobInterestGoalIndex.rebuild();
+        interestRecommendationMaterializer.rebuild();
+        goalTitleSuggester.rebuild();
         logger.warn("[주의] 데이터베이스 초기화 완료. 관심직무/직군 셋업을 실행해주십시오.");
         return ResponseEntity.ok(true);
     }
@@ -95,6 +123,16 @@ public class AdminController {
         return ResponseEntity.ok(true);
     }
 
+    @GetMapping("/cache/goalSearch")
+    public ResponseEntity<CacheStats> goalSearchCacheStats() {
+        return ResponseEntity.ok(goalSearchCache.stats());
+    }
+
+    @GetMapping("/cache/memberInterest")
+    public ResponseEntity<CacheStats> memberInterestCacheStats() {
+        return ResponseEntity.ok(memberJobInterestCache.stats());
+    }
+
     @GetMapping("/ping")
     public ResponseEntity ping() {
         logger.warn("에러 ping 요청 확인.");
@@ -21,16 +21,28 @@ public class AlarmController {
 
     @GetMapping
     public ResponseEntity getMessageAll(@RequestHeader(name = HttpHeaders.AUTHORIZATION) String header,
-                                        Pageable pageable) {
+                                        Pageable pageable,
+                                        @RequestParam(defaultValue = "false") boolean slice,
+                                        @RequestParam(defaultValue = "false") boolean withTotal) {
         String uid = jwtTokenProvider.getUidFromHeader(header);
+        if (slice) {
+            return ResponseEntity.ok(alarmService.getMessageSliceByUid(uid, pageable, withTotal));
+        }
+
         Page<MessageDTO> messages = alarmService.getMessageAllByUid(uid, pageable);
         return ResponseEntity.ok(messages);
     }
 
     @GetMapping("/unchecked")
     public ResponseEntity getMessageUnchecked(@RequestHeader(name = HttpHeaders.AUTHORIZATION) String header,
-                                              Pageable pageable) {
+                                              Pageable pageable,
+                                              @RequestParam(defaultValue = "false") boolean slice,
+                                              @RequestParam(defaultValue = "false") boolean withTotal) {
         String uid = jwtTokenProvider.getUidFromHeader(header);
+        if (slice) {
+            return ResponseEntity.ok(alarmService.getMessageUncheckedSliceByUid(uid, pageable, withTotal));
+        }
+
         Page<MessageDTO> messages = alarmService.getMessageUncheckedByUid(uid, pageable);
         return ResponseEntity.ok(messages);
     }
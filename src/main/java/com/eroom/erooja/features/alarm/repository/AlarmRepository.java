@@ -3,6 +3,7 @@ package com.eroom.erooja.features.alarm.repository;
 import com.eroom.erooja.domain.model.Alarm;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,5 +11,10 @@ import org.springframework.stereotype.Repository;
 public interface AlarmRepository extends JpaRepository<Alarm, Long>{
     Page<Alarm> findAllByReceiver_Uid(String uid, Pageable pageable);
     Page<Alarm> findAllByReceiver_UidAndIsCheckedIsFalse(String uid, Pageable pageable);
+
+    Slice<Alarm> findSliceByReceiver_Uid(String uid, Pageable pageable);
+    Slice<Alarm> findSliceByReceiver_UidAndIsCheckedIsFalse(String uid, Pageable pageable);
+    long countByReceiver_Uid(String uid);
+    long countByReceiver_UidAndIsCheckedIsFalse(String uid);
 }
 
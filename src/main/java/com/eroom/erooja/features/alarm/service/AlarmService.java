@@ -1,6 +1,8 @@
 package com.eroom.erooja.features.alarm.service;
 
+import com.eroom.erooja.common.cache.ApproximateCountCache;
 import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.dto.SliceResponse;
 import com.eroom.erooja.common.exception.EroojaException;
 import com.eroom.erooja.domain.model.Alarm;
 import com.eroom.erooja.domain.model.MemberGoal;
@@ -12,14 +14,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class AlarmService {
     private final AlarmRepository alarmRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     public Page<MessageDTO> getMessageAllByUid(String uid, Pageable pageable){
         Page<Alarm> alarmsPage = alarmRepository.findAllByReceiver_Uid(uid, pageable);
@@ -31,6 +36,22 @@ public class AlarmService {
         return convertAlarmPage2DTO(alarmsPage);
     }
 
+    public SliceResponse<MessageDTO> getMessageSliceByUid(String uid, Pageable pageable, boolean withTotal) {
+        Slice<MessageDTO> messages = alarmRepository.findSliceByReceiver_Uid(uid, pageable).map(MessageDTO::of);
+        Long approximateTotal = withTotal
+                ? approximateCountCache.get("alarm:all:" + uid, () -> alarmRepository.countByReceiver_Uid(uid))
+                : null;
+        return SliceResponse.of(messages, approximateTotal);
+    }
+
+    public SliceResponse<MessageDTO> getMessageUncheckedSliceByUid(String uid, Pageable pageable, boolean withTotal) {
+        Slice<MessageDTO> messages = alarmRepository.findSliceByReceiver_UidAndIsCheckedIsFalse(uid, pageable).map(MessageDTO::of);
+        Long approximateTotal = withTotal
+                ? approximateCountCache.get("alarm:unchecked:" + uid, () -> alarmRepository.countByReceiver_UidAndIsCheckedIsFalse(uid))
+                : null;
+        return SliceResponse.of(messages, approximateTotal);
+    }
+
     public Alarm changeStateToChecked(String uid, Long alarmId){
         Alarm message = alarmRepository.findById(alarmId)
                 .orElseThrow(() -> new EroojaException(ErrorEnum.ALARM_MESSAGE_NOT_FOUND));
@@ -48,6 +69,15 @@ public class AlarmService {
         return alarmRepository.save(message);
     }
 
+    /**
+     * 여러 알림을 한 번에 저장한다. id 는 pooled_id 로 블록 단위로 받으므로 INSERT 는 flush 시 배치로 나간다.
+     */
+    public List<Alarm> insertMessages(List<InsertMessageDTO> insertMessages) {
+        return alarmRepository.saveAll(insertMessages.stream()
+                .map(Alarm::of)
+                .collect(Collectors.toList()));
+    }
+
     private Page<MessageDTO> convertAlarmPage2DTO(Page<Alarm> origin) {
         return new PageImpl<MessageDTO>(
                 origin.stream()
@@ -0,0 +1,45 @@
+package com.eroom.erooja.features.goal.cache;
+
+import com.eroom.erooja.common.cache.CacheStats;
+import com.eroom.erooja.common.cache.ExpiringCache;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 목표 검색 결과 페이지 캐시, 키는 정리된(normalized) GoalCriteria 이다.
+ * 목표 생성/수정 시 전체를 비우고, 참여 인원이 바뀌면 해당 목표가 담긴 페이지와 참여 인원순/추세순 페이지만 비운다.
+ */
+@Component
+public class GoalSearchCache {
+    private final ExpiringCache<GoalCriteria, Page<GoalListResponse>> pages;
+
+    public GoalSearchCache(@Value("${cacheProperties.goalSearchTtlSeconds:60}") long ttlSeconds,
+                           @Value("${cacheProperties.goalSearchMaxEntries:1000}") int maxEntries) {
+        this.pages = new ExpiringCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public Page<GoalListResponse> get(GoalCriteria goalCriteria, Function<GoalCriteria, Page<GoalListResponse>> loader) {
+        return pages.get(goalCriteria.normalized(), loader);
+    }
+
+    public void invalidateAll() {
+        pages.invalidateAll();
+    }
+
+    public void invalidateJoinCountOf(Long goalId) {
+        pages.invalidateIf((criteria, page) ->
+                criteria.getGoalSortBy() == GoalSortBy.JOINT_CNT
+                        || criteria.getGoalSortBy() == GoalSortBy.TRENDING
+                        || page.getContent().stream().anyMatch(goal -> goal.getId().equals(goalId)));
+    }
+
+    public CacheStats stats() {
+        return pages.stats();
+    }
+}
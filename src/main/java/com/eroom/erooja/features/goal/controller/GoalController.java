@@ -1,5 +1,6 @@
 package com.eroom.erooja.features.goal.controller;
 
+import com.eroom.erooja.features.goal.dto.GoalCursorResponse;
 import com.eroom.erooja.features.goal.dto.GoalListResponse;
 import com.eroom.erooja.features.goal.dto.UpdateGoalRequestDTO;
 import com.eroom.erooja.features.goal.exception.GoalNotFoundException;
@@ -56,6 +57,12 @@ public class GoalController {
         return ResponseEntity.ok(findGoal);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity suggestGoalTitle(@RequestParam String prefix,
+                                           @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(goalService.suggestTitles(prefix, size));
+    }
+
     @GetMapping(value = "/interest/{interestId}")
     public ResponseEntity getGoalList(@PathVariable("interestId") Long interestId, Pageable pageable,
                                @RequestParam(required = false) String uid) {
@@ -63,8 +70,25 @@ public class GoalController {
         return new ResponseEntity(goalList, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/interest/{interestId}/cursor")
+    public ResponseEntity getGoalListByCursor(@PathVariable("interestId") Long interestId,
+                                              @Valid GoalSearchRequestDTO goalSearchRequestDTO, Errors errors,
+                                              @RequestParam(required = false) String uid) {
+        if (errors.hasErrors()) {
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
+        }
+
+        try {
+            GoalCriteria criteria = GoalCriteria.of(goalSearchRequestDTO);
+            return ResponseEntity.ok(goalService.findGoalListByInterestIdWithCursor(uid, interestId, criteria));
+        } catch (UnsupportedEncodingException e) {
+            logger.error("키워드, {} 를 디코드할 수 없습니다.", goalSearchRequestDTO.getKeyword());
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
+        }
+    }
+
     @GetMapping
-    public ResponseEntity searchGoal(GoalSearchRequestDTO goalSearchRequestDTO,
+    public ResponseEntity searchGoal(@Valid GoalSearchRequestDTO goalSearchRequestDTO,
                               Errors errors) {
         if (errors.hasErrors()) {
             throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
@@ -81,6 +105,24 @@ public class GoalController {
         }
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity searchGoalByCursor(@Valid GoalSearchRequestDTO goalSearchRequestDTO,
+                                             Errors errors) {
+        if (errors.hasErrors()) {
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
+        }
+
+        try {
+            GoalCriteria criteria = GoalCriteria.of(goalSearchRequestDTO);
+            GoalCursorResponse goalCursorResponse = goalService.searchByCursor(criteria);
+
+            return ResponseEntity.ok(goalCursorResponse);
+        } catch (UnsupportedEncodingException e) {
+            logger.error("키워드, {} 를 디코드할 수 없습니다.", goalSearchRequestDTO.getKeyword());
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
+        }
+    }
+
     @PostMapping(produces = "application/json; charset=utf-8")
     public ResponseEntity createGoal(@RequestBody @Valid CreateGoalRequestDTO createGoalRequest,
                               @RequestHeader(name = HttpHeaders.AUTHORIZATION) String header
@@ -0,0 +1,100 @@
+package com.eroom.erooja.features.goal.dto;
+
+import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.exception.EroojaException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 커서 페이지네이션에서 마지막으로 내려준 목표의 (정렬 키, ID) 를 담는 불투명 토큰.
+ * 토큰에는 정렬 조건도 함께 담아, 정렬 조건이 바뀐 요청에 이전 커서가 쓰이는 것을 막는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GoalCursor {
+    private static final String DELIMITER = "|";
+    private static final String NULL_KEY = "N";
+    private static final String VALUE_KEY = "V";
+
+    private final GoalSortBy goalSortBy;
+    private final Sort.Direction direction;
+    private final Comparable<?> sortKey;
+    private final Long id;
+
+    public static GoalCursor of(GoalSummary goal, GoalSortBy goalSortBy, Sort.Direction direction) {
+        return new GoalCursor(goalSortBy, direction, sortKeyOf(goal, goalSortBy), goal.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                goalSortBy.name(), direction.name(), String.valueOf(id),
+                sortKey == null ? NULL_KEY : VALUE_KEY + sortKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GoalCursor decode(String token, GoalSortBy goalSortBy, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 4);
+
+            if (parts.length != 4 || GoalSortBy.valueOf(parts[0]) != goalSortBy
+                    || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw new EroojaException(ErrorEnum.GOAL_INVALID_CURSOR);
+            }
+
+            Comparable<?> sortKey = parts[3].startsWith(NULL_KEY)
+                    ? null : parseSortKey(parts[3].substring(VALUE_KEY.length()), goalSortBy);
+            return new GoalCursor(goalSortBy, direction, sortKey, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 페이지네이션 정렬(정렬 키, ID)과 같은 순서의 비교자. 정렬 키가 null 인 목표는 오름차순에서 앞에 온다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparator<GoalSummary> orderOf(GoalSortBy goalSortBy, Sort.Direction direction) {
+        Comparator<Comparable> sortKeyOrder = Comparator.nullsFirst(Comparator.naturalOrder());
+        Comparator<GoalSummary> order = Comparator.<GoalSummary, Comparable>comparing(goal -> sortKeyOf(goal, goalSortBy), sortKeyOrder)
+                .thenComparing(GoalSummary::getId);
+        return direction.isAscending() ? order : order.reversed();
+    }
+
+    private static Comparable<?> sortKeyOf(GoalSummary goal, GoalSortBy goalSortBy) {
+        switch (goalSortBy) {
+            case TITLE:
+                return goal.getTitle();
+            case START_DT:
+                return goal.getStartDt();
+            case END_DT:
+                return goal.getEndDt();
+            case JOINT_CNT:
+                return goal.getJoinCount();
+            default:
+                return goal.getId();
+        }
+    }
+
+    private static Comparable<?> parseSortKey(String value, GoalSortBy goalSortBy) {
+        switch (goalSortBy) {
+            case TITLE:
+                return value;
+            case START_DT:
+            case END_DT:
+                return LocalDateTime.parse(value);
+            case JOINT_CNT:
+                return Integer.valueOf(value);
+            default:
+                return Long.valueOf(value);
+        }
+    }
+}
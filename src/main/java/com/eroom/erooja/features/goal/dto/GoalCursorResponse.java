@@ -0,0 +1,22 @@
+package com.eroom.erooja.features.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalCursorResponse {
+    private List<GoalListResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static GoalCursorResponse empty(int size) {
+        return new GoalCursorResponse(Collections.emptyList(), size, false, null);
+    }
+}
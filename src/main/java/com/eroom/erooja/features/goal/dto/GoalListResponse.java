@@ -40,4 +40,19 @@ public class GoalListResponse {
         this.jobInterests = goal.jobInterests();
         this.userImages = userImages;
     }
+
+    public GoalListResponse(GoalSummary goal, List<JobInterest> jobInterests, List<String> userImages){
+        this.id = goal.getId();
+        this.title = goal.getTitle();
+        this.description = goal.getDescription();
+        this.joinCount = goal.getJoinCount();
+        this.isEnd = goal.getIsEnd();
+        this.isDateFixed = goal.getIsDateFixed();
+        this.startDt = goal.getStartDt();
+        this.endDt = goal.getEndDt();
+        this.createDt = goal.getCreateDt();
+        this.updateDt = goal.getUpdateDt();
+        this.jobInterests = jobInterests;
+        this.userImages = userImages;
+    }
 }
@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Sort;
 
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -24,16 +25,22 @@ public class GoalSearchRequestDTO {
 
     private Set<Long> jobInterestIds;
 
+    private JobInterestMatch jobInterestMatch = JobInterestMatch.ANY;
+
     private GoalSortBy goalSortBy = GoalSortBy.ID;
 
     private Sort.Direction direction = Sort.Direction.ASC;
 
     @Min(5)
+    @Max(100)
     private int size = 10;
 
     @Min(0)
+    @Max(1000)
     private int page;
 
+    private String cursor;
+
     public void setFromDt(String fromDt) {
         this.fromDt = LocalDateTime.parse(fromDt);
     }
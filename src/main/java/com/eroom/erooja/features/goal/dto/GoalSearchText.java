@@ -0,0 +1,7 @@
+package com.eroom.erooja.features.goal.dto;
+
+public interface GoalSearchText {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
@@ -11,7 +11,11 @@ public enum GoalSortBy {
     TITLE(Goal_.title),
     START_DT(Goal_.startDt),
     END_DT(Goal_.endDt),
-    JOINT_CNT(Goal_.joinCount);
+    JOINT_CNT(Goal_.joinCount),
+    /* 키워드 관련도 순, 키워드가 없으면 ID 순으로 동작한다. */
+    RELEVANCE(Goal_.id),
+    /* 최근 참여 속도 순, 최근 참여가 없는 목표는 ID 순으로 뒤에 온다. 커서 페이지네이션은 지원하지 않는다. */
+    TRENDING(Goal_.id);
 
     private String field;
 }
@@ -0,0 +1,26 @@
+package com.eroom.erooja.features.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목표 목록 카드용 요약 정보. 설명은 앞쪽 DESCRIPTION_LENGTH 글자만 조회하고 관심직무 컬렉션은 담지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class GoalSummary {
+    public static final int DESCRIPTION_LENGTH = 100;
+
+    private Long id;
+    private String title;
+    private String description;
+    private int joinCount;
+    private Boolean isEnd;
+    private Boolean isDateFixed;
+    private LocalDateTime startDt;
+    private LocalDateTime endDt;
+    private LocalDateTime createDt;
+    private LocalDateTime updateDt;
+}
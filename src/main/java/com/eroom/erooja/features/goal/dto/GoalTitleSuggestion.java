@@ -0,0 +1,11 @@
+package com.eroom.erooja.features.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GoalTitleSuggestion {
+    private String title;
+    private long joinCount;
+}
@@ -0,0 +1,7 @@
+package com.eroom.erooja.features.goal.dto;
+
+public interface GoalTitleWeight {
+    Long getId();
+    String getTitle();
+    int getJoinCount();
+}
@@ -0,0 +1,6 @@
+package com.eroom.erooja.features.goal.dto;
+
+public interface GoalUserImage {
+    Long getGoalId();
+    String getImagePath();
+}
@@ -0,0 +1,8 @@
+package com.eroom.erooja.features.goal.dto;
+
+public enum JobInterestMatch {
+    /* 관심직무 중 하나라도 가진 목표 */
+    ANY,
+    /* 관심직무를 모두 가진 목표 */
+    ALL
+}
@@ -0,0 +1,218 @@
+package com.eroom.erooja.features.goal.index;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.features.goal.dto.GoalSearchText;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목표 제목/설명에 대한 문자 bigram 역색인.
+ * 한글은 형태소 분리 없이도 두 글자 단위로 잘라 교집합을 구하면 부분 문자열 검색 후보를 빠르게 좁힐 수 있다.
+ * 색인이 돌려주는 것은 후보 ID 이므로, 최종 일치 여부는 호출하는 쪽에서 기존 LIKE 조건으로 한 번 더 확인한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class GoalSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(GoalSearchIndex.class);
+    private static final int GRAM_SIZE = 2;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    /* BM25 파라미터, 제목 일치는 설명 일치보다 TITLE_BOOST 배 가중치를 받는다. */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_BOOST = 3.0;
+
+    private final GoalRepository goalRepository;
+
+    private final FieldPostings titlePostings = new FieldPostings();
+    private final FieldPostings descriptionPostings = new FieldPostings();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        titlePostings.clear();
+        descriptionPostings.clear();
+
+        long lastId = 0L;
+        int indexedCount = 0;
+        List<GoalSearchText> chunk;
+        do {
+            chunk = goalRepository.findSearchTexts(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (GoalSearchText text : chunk) {
+                add(text.getId(), text.getTitle(), text.getDescription());
+                lastId = text.getId();
+            }
+            indexedCount += chunk.size();
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        logger.info("목표 검색 색인 구성 완료 - 목표 {}건, 제목 gram {}개, 설명 gram {}개",
+                indexedCount, titlePostings.postings.size(), descriptionPostings.postings.size());
+    }
+
+    public void add(Long goalId, String title, String description) {
+        titlePostings.update(goalId, Collections.emptyMap(), gramCountsOf(title));
+        descriptionPostings.update(goalId, Collections.emptyMap(), gramCountsOf(description));
+    }
+
+    public void update(Long goalId, String oldTitle, String oldDescription, String title, String description) {
+        titlePostings.update(goalId, gramCountsOf(oldTitle), gramCountsOf(title));
+        descriptionPostings.update(goalId, gramCountsOf(oldDescription), gramCountsOf(description));
+    }
+
+    /**
+     * 키워드의 모든 gram 을 포함하는 목표 ID 집합을 돌려준다.
+     * 키워드가 gram 보다 짧아 색인으로 좁힐 수 없다면 empty 를 돌려주며, 이 경우 기존 LIKE 검색을 그대로 사용한다.
+     */
+    public Optional<Set<Long>> search(String field, String keyword) {
+        FieldPostings fieldPostings = postingsOf(field);
+        Set<String> grams = gramCountsOf(normalizeKeyword(keyword)).keySet();
+
+        if (fieldPostings == null || grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(fieldPostings.containingAll(grams));
+    }
+
+    /**
+     * 여러 필드 중 하나라도 키워드를 포함하는 목표 ID 집합을 돌려준다.
+     */
+    public Optional<Set<Long>> searchAny(List<String> fields, String keyword) {
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> hits = new HashSet<>();
+        for (String field : fields) {
+            Optional<Set<Long>> fieldHits = search(field, keyword);
+            if (!fieldHits.isPresent()) {
+                return Optional.empty();
+            }
+            hits.addAll(fieldHits.get());
+        }
+        return Optional.of(hits);
+    }
+
+    /**
+     * 주어진 목표들에 대해 키워드 gram 기준 BM25 점수를 계산한다. (제목 점수에 TITLE_BOOST 적용)
+     */
+    public Map<Long, Double> score(String keyword, Collection<Long> goalIds) {
+        Map<String, Integer> queryGrams = gramCountsOf(normalizeKeyword(keyword));
+        Map<Long, Double> scores = new HashMap<>(goalIds.size() * 2);
+
+        for (Long goalId : goalIds) {
+            scores.put(goalId,
+                    TITLE_BOOST * titlePostings.bm25(goalId, queryGrams.keySet())
+                            + descriptionPostings.bm25(goalId, queryGrams.keySet()));
+        }
+        return scores;
+    }
+
+    static Map<String, Integer> gramCountsOf(String text) {
+        if (StringUtils.isEmpty(text)) {
+            return Collections.emptyMap();
+        }
+
+        String normalized = text.toLowerCase();
+        Map<String, Integer> grams = new HashMap<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.merge(normalized.substring(i, i + GRAM_SIZE), 1, Integer::sum);
+        }
+        return grams;
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        return keyword == null ? null : keyword.trim();
+    }
+
+    private FieldPostings postingsOf(String field) {
+        if (Goal_.title.equals(field)) {
+            return titlePostings;
+        } else if (Goal_.description.equals(field)) {
+            return descriptionPostings;
+        }
+        return null;
+    }
+
+    /**
+     * 필드 하나의 gram 별 (목표 ID -> 출현 횟수) posting 과 BM25 에 필요한 문서 길이 통계.
+     */
+    private static class FieldPostings {
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> lengths = new ConcurrentHashMap<>();
+        private long totalLength = 0L;
+
+        synchronized void clear() {
+            postings.clear();
+            lengths.clear();
+            totalLength = 0L;
+        }
+
+        synchronized void update(Long goalId, Map<String, Integer> oldGrams, Map<String, Integer> newGrams) {
+            for (String gram : oldGrams.keySet()) {
+                if (newGrams.containsKey(gram)) continue;
+
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(goalId);
+                }
+            }
+
+            newGrams.forEach((gram, count) ->
+                    postings.computeIfAbsent(gram, key -> new ConcurrentHashMap<>()).put(goalId, count));
+
+            int length = newGrams.values().stream().mapToInt(Integer::intValue).sum();
+            Integer oldLength = lengths.put(goalId, length);
+            totalLength += length - (oldLength == null ? 0 : oldLength);
+        }
+
+        Set<Long> containingAll(Set<String> grams) {
+            List<Map<Long, Integer>> postingLists = new ArrayList<>();
+            for (String gram : grams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null || posting.isEmpty()) {
+                    return Collections.emptySet();
+                }
+                postingLists.add(posting);
+            }
+
+            postingLists.sort(Comparator.comparingInt(Map::size));
+
+            Set<Long> hits = new HashSet<>(postingLists.get(0).keySet());
+            for (int i = 1; i < postingLists.size() && !hits.isEmpty(); i++) {
+                hits.retainAll(postingLists.get(i).keySet());
+            }
+            return hits;
+        }
+
+        double bm25(Long goalId, Set<String> queryGrams) {
+            Integer length = lengths.get(goalId);
+            int documentCount = lengths.size();
+            if (length == null || length == 0 || documentCount == 0) {
+                return 0.0;
+            }
+
+            double averageLength = (double) totalLength / documentCount;
+            double score = 0.0;
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                Integer tf = posting == null ? null : posting.get(goalId);
+                if (tf == null) continue;
+
+                int df = posting.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                score += idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+            }
+            return score;
+        }
+    }
+}
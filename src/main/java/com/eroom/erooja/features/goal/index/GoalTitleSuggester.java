@@ -0,0 +1,258 @@
+package com.eroom.erooja.features.goal.index;
+
+import com.eroom.erooja.common.counter.DeltaCounter;
+import com.eroom.erooja.common.transaction.AfterCommit;
+import com.eroom.erooja.features.goal.dto.GoalTitleSuggestion;
+import com.eroom.erooja.features.goal.dto.GoalTitleWeight;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 목표 제목 자동완성용 prefix trie.
+ * 제목은 공백 정리 + 소문자로 정규화해 같은 제목의 목표끼리 참여 인원을 합친 가중치를 갖는다.
+ * 노드마다 하위 제목 중 가중치 상위 MAX_SUGGESTIONS 개를 미리 들고 있어 조회는 prefix 길이만큼만 내려가면 된다.
+ * 깊이는 MAX_DEPTH 로 제한하며, 더 긴 prefix 는 마지막 노드의 제목들을 직접 걸러 낸다.
+ * 참여 인원 증가분은 커밋 뒤에 따로 모았다가 주기적으로 한 번의 쓰기 락으로 반영하므로, 자동완성 순서는 applyIntervalMillis 만큼 늦게 바뀐다.
+ */
+@RequiredArgsConstructor
+@Component
+public class GoalTitleSuggester {
+    private static final Logger logger = LoggerFactory.getLogger(GoalTitleSuggester.class);
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int MAX_DEPTH = 16;
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<TitleEntry> BY_WEIGHT =
+            Comparator.comparingLong((TitleEntry entry) -> entry.weight).reversed()
+                    .thenComparing(entry -> entry.normalizedTitle);
+
+    private final GoalRepository goalRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DeltaCounter<Long> pendingJoinCounts = new DeltaCounter<>();
+    private final Map<Long, GoalTitle> titleByGoalId = new HashMap<>();
+    private final Map<String, TitleEntry> entries = new HashMap<>();
+    private Node root = new Node();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            /* DB 의 참여 인원을 다시 읽으므로 모아 둔 증가분은 버린다. */
+            pendingJoinCounts.clear();
+            titleByGoalId.clear();
+            entries.clear();
+            root = new Node();
+
+            long lastId = 0L;
+            List<GoalTitleWeight> chunk;
+            do {
+                chunk = goalRepository.findTitleWeights(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (GoalTitleWeight goal : chunk) {
+                    putWithoutLock(goal.getId(), goal.getTitle(), goal.getJoinCount());
+                    lastId = goal.getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            logger.info("목표 제목 자동완성 색인 구성 완료 - 목표 {}건, 제목 {}개", titleByGoalId.size(), entries.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 목표의 제목과 참여 인원을 반영한다. 목표 생성, 제목 수정, 참여 인원 변경 시 호출한다.
+     */
+    public void put(Long goalId, String title, int joinCount) {
+        lock.writeLock().lock();
+        try {
+            putWithoutLock(goalId, title, joinCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 목표의 참여 인원 증가분을 쌓는다. 트랜잭션이 커밋된 뒤에 쌓이며 trie 는 applyPendingJoinCounts 에서 바뀐다.
+     */
+    public void increaseJoinCount(Long goalId, int delta) {
+        AfterCommit.run(() -> pendingJoinCounts.add(goalId, delta));
+    }
+
+    /**
+     * 쌓인 참여 인원 증가분을 한 번의 쓰기 락으로 반영한다. 색인에 없는 목표의 증가분은 버린다.
+     *
+     * @return 이번에 반영한 목표 수
+     */
+    @Scheduled(fixedDelayString = "${suggestProperties.applyIntervalMillis:1000}")
+    public int applyPendingJoinCounts() {
+        Map<Long, Long> deltas = pendingJoinCounts.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int applied = 0;
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                GoalTitle old = titleByGoalId.get(delta.getKey());
+                if (old != null) {
+                    putWithoutLock(delta.getKey(), old.displayTitle, (int) (old.joinCount + delta.getValue()));
+                    applied++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return applied;
+    }
+
+    public List<GoalTitleSuggestion> suggest(String prefix, int size) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(normalizedPrefix.length(), MAX_DEPTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.children.get(normalizedPrefix.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            List<TitleEntry> candidates = normalizedPrefix.length() <= MAX_DEPTH
+                    ? node.top
+                    : node.titles.stream()
+                        .filter(entry -> entry.normalizedTitle.startsWith(normalizedPrefix))
+                        .sorted(BY_WEIGHT)
+                        .collect(Collectors.toList());
+
+            return candidates.stream()
+                    .limit(Math.min(size, MAX_SUGGESTIONS))
+                    .map(entry -> new GoalTitleSuggestion(entry.displayTitle, entry.weight))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String title) {
+        if (StringUtils.isEmpty(title)) {
+            return "";
+        }
+        return collapseSpaces(title).toLowerCase();
+    }
+
+    private static String collapseSpaces(String title) {
+        return title.trim().replaceAll("\\s+", " ");
+    }
+
+    private void putWithoutLock(Long goalId, String title, int joinCount) {
+        GoalTitle old = titleByGoalId.remove(goalId);
+        if (old != null) {
+            changeWeight(old.normalizedTitle, old.displayTitle, -old.joinCount, -1);
+        }
+
+        String normalizedTitle = normalize(title);
+        if (normalizedTitle.isEmpty()) {
+            return;
+        }
+
+        String displayTitle = collapseSpaces(title);
+        titleByGoalId.put(goalId, new GoalTitle(normalizedTitle, displayTitle, joinCount));
+        changeWeight(normalizedTitle, displayTitle, joinCount, 1);
+    }
+
+    private void changeWeight(String normalizedTitle, String displayTitle, long weightDelta, int goalDelta) {
+        TitleEntry entry = entries.computeIfAbsent(normalizedTitle, key -> new TitleEntry(key, displayTitle));
+        entry.weight += weightDelta;
+        entry.goalCount += goalDelta;
+
+        boolean removed = entry.goalCount <= 0;
+        if (removed) {
+            entries.remove(normalizedTitle);
+        }
+
+        /* 경로를 따라 내려간 뒤, 아래 노드부터 상위 목록을 다시 계산한다. */
+        int depth = Math.min(normalizedTitle.length(), MAX_DEPTH);
+        Node[] path = new Node[depth + 1];
+        path[0] = root;
+        for (int i = 0; i < depth; i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(normalizedTitle.charAt(i), key -> new Node());
+        }
+
+        Node last = path[depth];
+        last.titles.remove(entry);
+        if (!removed) {
+            last.titles.add(entry);
+        }
+
+        for (int i = depth; i >= 0; i--) {
+            path[i].recomputeTop();
+            if (i > 0 && path[i].isEmpty()) {
+                path[i - 1].children.remove(normalizedTitle.charAt(i - 1));
+            }
+        }
+    }
+
+    private static class GoalTitle {
+        private final String normalizedTitle;
+        private final String displayTitle;
+        private final int joinCount;
+
+        GoalTitle(String normalizedTitle, String displayTitle, int joinCount) {
+            this.normalizedTitle = normalizedTitle;
+            this.displayTitle = displayTitle;
+            this.joinCount = joinCount;
+        }
+    }
+
+    private static class TitleEntry {
+        private final String normalizedTitle;
+        private final String displayTitle;
+        private long weight = 0L;
+        private int goalCount = 0;
+
+        TitleEntry(String normalizedTitle, String displayTitle) {
+            this.normalizedTitle = normalizedTitle;
+            this.displayTitle = displayTitle;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /* 이 노드에서 끝나는 제목, 깊이 제한에 걸린 노드는 그보다 긴 제목도 모두 담는다. */
+        private final Set<TitleEntry> titles = new HashSet<>();
+        private List<TitleEntry> top = Collections.emptyList();
+
+        void recomputeTop() {
+            List<TitleEntry> candidates = new ArrayList<>(titles);
+            children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(BY_WEIGHT);
+            top = candidates.size() > MAX_SUGGESTIONS
+                    ? new ArrayList<>(candidates.subList(0, MAX_SUGGESTIONS))
+                    : candidates;
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && titles.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.eroom.erooja.features.goal.index;
+
+import java.util.*;
+
+/**
+ * 점수 상위 k 개의 목표 ID 를 크기 k 의 최소 힙으로 고른다. 전체 정렬 없이 O(n log k) 로 동작한다.
+ * 점수가 같으면 ID 가 작은 목표가 앞선다.
+ */
+public final class TopKSelector {
+    private static final Comparator<Map.Entry<Long, Double>> BY_RANK =
+            Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey());
+
+    private TopKSelector() {
+    }
+
+    public static List<Long> select(Map<Long, Double> scores, int k) {
+        if (k <= 0 || scores.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        k = Math.min(k, scores.size());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, BY_RANK.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(entry);
+            } else if (BY_RANK.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+}
@@ -0,0 +1,116 @@
+package com.eroom.erooja.features.goal.recommend;
+
+import com.eroom.erooja.features.goal.index.TopKSelector;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalRankInput;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관심직무별 추천 목표 목록을 미리 계산해 둔다. 목록은 점수 순으로 최대 maxGoalsPerInterest 개의 목표 ID 를 long 배열로 담는다.
+ * 점수는 참여 인원(log), 생성 후 경과 시간(반감기), 마감 여부로 매기며 입력값이 천천히 바뀌므로
+ * 목표 생성, 마감, 관심직무 변경이 있으면 dirty 표시만 하고, 주기적으로 dirty 이거나 오래된 목록을 다시 만든다.
+ * 참여 인원 변화는 점수에 log 로만 반영되므로 dirty 표시 없이 refreshMinutes 주기의 재구성에 맡긴다.
+ */
+@Component
+public class InterestRecommendationMaterializer {
+    private static final Logger logger = LoggerFactory.getLogger(InterestRecommendationMaterializer.class);
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final double RECENCY_WEIGHT = 2.0;
+    private static final double RECENCY_HALF_LIFE_DAYS = 7.0;
+
+    private final GoalJobInterestRepository goalJobInterestRepository;
+    private final int maxGoalsPerInterest;
+    private final long refreshMillis;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile Map<Long, long[]> rankedGoalIdsByInterestId = null;
+    private volatile long builtAt = 0L;
+
+    public InterestRecommendationMaterializer(GoalJobInterestRepository goalJobInterestRepository,
+                                              @Value("${recommendProperties.maxGoalsPerInterest:1000}") int maxGoalsPerInterest,
+                                              @Value("${recommendProperties.refreshMinutes:10}") long refreshMinutes) {
+        this.goalJobInterestRepository = goalJobInterestRepository;
+        this.maxGoalsPerInterest = maxGoalsPerInterest;
+        this.refreshMillis = refreshMinutes * 60 * 1000;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        dirty.set(false);
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Map<Long, Double>> scoresByInterestId = new HashMap<>();
+        long lastId = 0L;
+        List<GoalRankInput> chunk;
+        do {
+            chunk = goalJobInterestRepository.findRankInputs(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (GoalRankInput input : chunk) {
+                lastId = input.getId();
+                if (isFixedDateAndExpired(input, now)) {
+                    continue;
+                }
+                scoresByInterestId.computeIfAbsent(input.getJobInterestId(), key -> new HashMap<>())
+                        .put(input.getGoalId(), scoreOf(input, now));
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        Map<Long, long[]> ranked = new HashMap<>(scoresByInterestId.size() * 2);
+        scoresByInterestId.forEach((interestId, scores) ->
+                ranked.put(interestId, TopKSelector.select(scores, maxGoalsPerInterest).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray()));
+
+        rankedGoalIdsByInterestId = ranked;
+        builtAt = System.currentTimeMillis();
+        logger.info("관심직무별 추천 목표 목록 구성 완료 - 관심직무 {}개, {}ms", ranked.size(), builtAt - startedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendProperties.checkIntervalMillis:30000}")
+    public void refreshIfStale() {
+        if (dirty.get() || System.currentTimeMillis() - builtAt > refreshMillis) {
+            rebuild();
+        }
+    }
+
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * 관심직무의 추천 목표 ID 를 점수 순으로 돌려준다. 아직 목록이 만들어지지 않았다면 empty 를 돌려준다.
+     */
+    public Optional<long[]> rankedGoalIdsOf(Long interestId) {
+        Map<Long, long[]> ranked = rankedGoalIdsByInterestId;
+        if (ranked == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ranked.getOrDefault(interestId, new long[0]));
+    }
+
+    /* 목표 검색의 exceptFixedDateAndExpired 와 같은 기준, 기간이 고정되지 않은 목표는 종료일이 지나도 추천한다. */
+    private static boolean isFixedDateAndExpired(GoalRankInput input, LocalDateTime now) {
+        return Boolean.TRUE.equals(input.getIsDateFixed()) && input.getEndDt() != null && input.getEndDt().isBefore(now);
+    }
+
+    static double scoreOf(GoalRankInput input, LocalDateTime now) {
+        double score = Math.log1p(Math.max(input.getJoinCount(), 0));
+        if (input.getCreateDt() != null) {
+            double ageDays = Math.max(Duration.between(input.getCreateDt(), now).toHours(), 0) / 24.0;
+            score += RECENCY_WEIGHT * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        }
+        return score;
+    }
+}
@@ -1,7 +1,8 @@
 package com.eroom.erooja.features.goal.repository;
 
 import com.eroom.erooja.domain.model.Goal;
-import org.springframework.data.domain.Page;
+import com.eroom.erooja.features.goal.dto.GoalSearchText;
+import com.eroom.erooja.features.goal.dto.GoalTitleWeight;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -9,20 +10,30 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface GoalRepository extends JpaRepository<Goal, Long>, JpaSpecificationExecutor<Goal> {
-    @Query("SELECT g FROM Goal g JOIN GoalJobInterest i " +
-            "ON g.id = i.goal.id " +
-            "AND i.jobInterest.id = :interestId " +
-            "AND g.isEnd = false " +
-            "AND g.id not in (SELECT m.goalId FROM MemberGoal m WHERE m.uid = :uid) ")
-    Page<Goal> findGoalByInterestId(Long interestId, String uid, Pageable pageable);
-
+public interface GoalRepository extends JpaRepository<Goal, Long>, JpaSpecificationExecutor<Goal>, GoalRepositoryCustom {
     @Query("SELECT g FROM Goal g " +
             "WHERE g.isDateFixed = true " +
             "AND g.isEnd = false " +
             "AND g.endDt < :now ")
     List<Goal> findFinishedGoals(LocalDateTime now);
+
+    @Query("SELECT DISTINCT g FROM Goal g " +
+            "LEFT JOIN FETCH g.goalJobInterests i " +
+            "LEFT JOIN FETCH i.jobInterest " +
+            "WHERE g.id IN :goalIds")
+    List<Goal> findAllWithJobInterestsByIdIn(Collection<Long> goalIds);
+
+    @Query("SELECT g.id AS id, g.title AS title, g.description AS description FROM Goal g " +
+            "WHERE g.id > :lastId " +
+            "ORDER BY g.id")
+    List<GoalSearchText> findSearchTexts(Long lastId, Pageable pageable);
+
+    @Query("SELECT g.id AS id, g.title AS title, g.joinCount AS joinCount FROM Goal g " +
+            "WHERE g.id > :lastId " +
+            "ORDER BY g.id")
+    List<GoalTitleWeight> findTitleWeights(Long lastId, Pageable pageable);
 }
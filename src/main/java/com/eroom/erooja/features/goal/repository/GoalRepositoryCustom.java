@@ -0,0 +1,20 @@
+package com.eroom.erooja.features.goal.repository;
+
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.dto.GoalSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface GoalRepositoryCustom {
+    List<Long> findIds(Specification<Goal> specification);
+
+    List<Long> findIdsWithLimit(Specification<Goal> specification, Sort sort, int limit);
+
+    Page<GoalSummary> findSummaries(Specification<Goal> specification, Pageable pageable);
+
+    List<GoalSummary> findSummariesWithLimit(Specification<Goal> specification, Sort sort, int limit);
+}
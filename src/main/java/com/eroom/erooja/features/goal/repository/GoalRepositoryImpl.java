@@ -0,0 +1,111 @@
+package com.eroom.erooja.features.goal.repository;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.dto.GoalSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+public class GoalRepositoryImpl implements GoalRepositoryCustom {
+    private final EntityManager em;
+
+    public GoalRepositoryImpl(EntityManager em) { this.em = em; }
+
+    /**
+     * 조건에 맞는 목표의 ID 만 조회한다. 엔티티를 만들지 않으므로 후보가 많은 관련도 정렬에서 사용한다.
+     */
+    @Override
+    public List<Long> findIds(Specification<Goal> specification) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Goal> root = query.from(Goal.class);
+
+        query.select(root.<Long>get(Goal_.id))
+                .where(specification.toPredicate(root, query, cb));
+
+        return em.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsWithLimit(Specification<Goal> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Goal> root = query.from(Goal.class);
+
+        query.select(root.<Long>get(Goal_.id))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 목록 카드에 필요한 컬럼만 조회한다. 설명(@Lob)은 앞부분만 잘라 가져오고, EAGER 관심직무 컬렉션은 로딩하지 않는다.
+     */
+    @Override
+    public Page<GoalSummary> findSummaries(Specification<Goal> specification, Pageable pageable) {
+        TypedQuery<GoalSummary> query = summaryQuery(specification, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> countOf(specification));
+    }
+
+    /**
+     * COUNT 쿼리 없이 정렬된 앞쪽 limit 건만 조회한다. 커서 페이지네이션에서 다음 페이지 여부 확인용으로 size + 1 건을 조회한다.
+     */
+    @Override
+    public List<GoalSummary> findSummariesWithLimit(Specification<Goal> specification, Sort sort, int limit) {
+        return summaryQuery(specification, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<GoalSummary> summaryQuery(Specification<Goal> specification, Sort sort) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<GoalSummary> query = cb.createQuery(GoalSummary.class);
+        Root<Goal> root = query.from(Goal.class);
+
+        query.select(cb.construct(GoalSummary.class,
+                root.get(Goal_.id),
+                root.get(Goal_.title),
+                cb.substring(root.<String>get(Goal_.description), 1, GoalSummary.DESCRIPTION_LENGTH),
+                root.get(Goal_.joinCount),
+                root.get(Goal_.isEnd),
+                root.get(Goal_.isDateFixed),
+                root.get(Goal_.startDt),
+                root.get(Goal_.endDt),
+                root.get(Goal_.createDt),
+                root.get(Goal_.updateDt)))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return em.createQuery(query);
+    }
+
+    private long countOf(Specification<Goal> specification) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Goal> root = query.from(Goal.class);
+
+        query.select(cb.count(root))
+                .where(specification.toPredicate(root, query, cb));
+
+        return em.createQuery(query).getSingleResult();
+    }
+}
@@ -1,20 +1,46 @@
 package com.eroom.erooja.features.goal.service;
 
 import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.counter.WriteBehindCounter;
+import com.eroom.erooja.common.exception.EroojaException;
+import com.eroom.erooja.common.transaction.AfterCommit;
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.specification.GoalFeedSpecifications;
+import com.eroom.erooja.domain.specification.GoalSeekSpecifications;
+import com.eroom.erooja.features.goal.cache.GoalSearchCache;
+import com.eroom.erooja.features.goal.dto.GoalCursor;
+import com.eroom.erooja.features.goal.dto.GoalCursorResponse;
 import com.eroom.erooja.domain.repos.MemberRepository;
 import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSummary;
+import com.eroom.erooja.features.goal.dto.GoalTitleSuggestion;
+import com.eroom.erooja.features.goal.dto.GoalUserImage;
 import com.eroom.erooja.features.goal.dto.UpdateGoalRequestDTO;
 import com.eroom.erooja.features.goal.exception.GoalNotFoundException;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.index.GoalTitleSuggester;
+import com.eroom.erooja.features.goal.index.TopKSelector;
+import com.eroom.erooja.features.goal.recommend.InterestRecommendationMaterializer;
+import com.eroom.erooja.features.goal.trend.GoalTrendCounter;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalJobInterestOfGoal;
+import com.eroom.erooja.features.goaljobinterest.index.JobInterestGoalIndex;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
 import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.JobInterest;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
 import com.eroom.erooja.features.goal.repository.GoalRepository;
 import com.eroom.erooja.domain.specification.GoalCriteria;
 import com.eroom.erooja.domain.specification.GoalSpecifications;
 import com.eroom.erooja.features.goal.dto.CreateGoalRequestDTO;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,17 +48,46 @@ import javax.validation.constraints.Size;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class GoalService {
+    private static final int GOAL_USER_IMAGE_LIMIT = 3;
+    /*
+     * 한 쿼리의 IN 목록에 넣는 ID 수. 키워드 색인 결과가 이보다 많으면 후보 ID 를 이만큼씩 나눠 조회하고,
+     * 관심직무 색인 결과가 이보다 많으면 EXISTS 서브쿼리로 거른다.
+     */
+    private static final int ID_IN_LIMIT = 1000;
+
     private final GoalRepository goalRepository;
     private final MemberRepository memberRepository;
+    private final GoalSearchIndex goalSearchIndex;
+    private final GoalSearchCache goalSearchCache;
+    private final JobInterestGoalIndex jobInterestGoalIndex;
+    private final GoalJobInterestRepository goalJobInterestRepository;
+    private final MemberGoalRepository memberGoalRepository;
+    private final InterestRecommendationMaterializer interestRecommendationMaterializer;
+    private final GoalTrendCounter goalTrendCounter;
+    private final GoalTitleSuggester goalTitleSuggester;
+    private final WriteBehindCounter writeBehindCounter;
 
     public Goal createGoal(CreateGoalRequestDTO createGoalDTO) {
-        return goalRepository.save(Goal.builder()
+        Goal goal = goalRepository.save(Goal.builder()
                 .isDateFixed(createGoalDTO.getIsDateFixed())
                 .title(createGoalDTO.getTitle())
                 .description(createGoalDTO.getDescription())
@@ -40,43 +95,400 @@ public class GoalService {
                 .endDt(createGoalDTO.getEndDt())
                 .isEnd(false)
                 .joinCount(1).build());
+
+        goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription());
+        goalTitleSuggester.put(goal.getId(), goal.getTitle(), goal.getJoinCount());
+        AfterCommit.run(goalSearchCache::invalidateAll);
+        return goal;
     }
 
     public Goal findGoalById(Long goalId) throws GoalNotFoundException {
-        return goalRepository.findById(goalId)
+        Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND));
+        goal.setPendingJoinCount(writeBehindCounter.pendingJoinCount(goalId));
+        return goal;
+    }
+
+    /**
+     * 목표와 직무 관심사를 한 번의 fetch join 으로 읽어 ID 로 찾을 수 있게 돌려준다.
+     */
+    public Map<Long, Goal> findGoalMapByIds(Collection<Long> goalIds) {
+        if (goalIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Goal> goals = goalRepository.findAllWithJobInterestsByIdIn(goalIds);
+        goals.forEach(goal -> goal.setPendingJoinCount(writeBehindCounter.pendingJoinCount(goal.getId())));
+        return goals.stream()
+                .collect(Collectors.toMap(Goal::getId, Function.identity()));
     }
 
     public Page<GoalListResponse> findGoalListByInterestId(String uid, Long interestId, Pageable pageable) {
-        Page<Goal> goalPage = goalRepository.findGoalByInterestId(interestId, uid, pageable);
+        if (pageable.isPaged() && pageable.getSort().isUnsorted()) {
+            Optional<long[]> recommended = interestRecommendationMaterializer.rankedGoalIdsOf(interestId);
+            if (recommended.isPresent()) {
+                return findRecommendedPage(uid, recommended.get(), pageable);
+            }
+        }
 
-        return goalPage.map((goal) -> {
-            List<String> userImages = memberRepository.getUserImageListByGoalId(goal.getId(), PageRequest.of(0, 3));
-            return new GoalListResponse(goal, userImages);
-        });
+        Page<GoalSummary> goalPage = goalRepository.findSummaries(new GoalFeedSpecifications(interestId, uid), pageable);
+
+        return toGoalListResponsePage(goalPage);
+    }
+
+    /**
+     * 미리 계산된 추천 목록을 ID_IN_LIMIT 개씩 훑으며, 구간마다 사용자가 참여한 목표를 (uid, goal_id IN 구간) 한 번의 조회로 걸러 낸다.
+     * 요청한 페이지가 차면 멈추므로, 전체 건수는 아직 훑지 않은 목표를 모두 참여하지 않은 것으로 친 대략값이다.
+     */
+    private Page<GoalListResponse> findRecommendedPage(String uid, long[] rankedGoalIds, Pageable pageable) {
+        long pageEnd = pageable.getOffset() + pageable.getPageSize();
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        long notJoinedCount = 0;
+        int from = 0;
+        while (from < rankedGoalIds.length && notJoinedCount < pageEnd) {
+            List<Long> chunk = Arrays.stream(rankedGoalIds, from, Math.min(from + ID_IN_LIMIT, rankedGoalIds.length))
+                    .boxed()
+                    .collect(Collectors.toList());
+            Set<Long> joinedGoalIds = uid == null
+                    ? Collections.emptySet()
+                    : memberGoalRepository.findGoalIdsByUidAndGoalIdIn(uid, chunk);
+
+            for (Long goalId : chunk) {
+                if (joinedGoalIds.contains(goalId)) continue;
+
+                if (notJoinedCount >= pageable.getOffset() && pageIds.size() < pageable.getPageSize()) {
+                    pageIds.add(goalId);
+                }
+                notJoinedCount++;
+            }
+            from += chunk.size();
+        }
+
+        long total = notJoinedCount + (rankedGoalIds.length - from);
+        return new PageImpl<>(toGoalListResponses(findSummariesInOrder(pageIds)), pageable, total);
+    }
+
+    public List<GoalTitleSuggestion> suggestTitles(String prefix, int size) {
+        return goalTitleSuggester.suggest(prefix, size);
     }
 
     public Page<GoalListResponse> search(GoalCriteria goalCriteria) {
-        Page<Goal> goalPage;
+        return goalSearchCache.get(goalCriteria, this::searchWithoutCache);
+    }
 
-        goalPage = goalRepository.findAll(new GoalSpecifications(goalCriteria), goalCriteria.getPageRequest());
+    private Page<GoalListResponse> searchWithoutCache(GoalCriteria goalCriteria) {
+        Optional<SearchSpecifications> searchSpecifications = specificationsOf(goalCriteria);
 
-        return goalPage.map((goal) -> {
-            List<String> userImages = memberRepository.getUserImageListByGoalId(goal.getId(), PageRequest.of(0, 3));
-            return new GoalListResponse(goal, userImages);
-        });
+        if (!searchSpecifications.isPresent()) {
+            return Page.empty(goalCriteria.getPageRequest());
+        }
+
+        SearchSpecifications specifications = searchSpecifications.get();
+        Page<GoalSummary> goalPage;
+        if (goalCriteria.isRankedByRelevance()) {
+            goalPage = findByScore(goalCriteria, specifications);
+        } else if (goalCriteria.isRankedByTrend()) {
+            goalPage = findByTrend(goalCriteria, specifications);
+        } else {
+            goalPage = findSummaries(goalCriteria, specifications.getParts());
+        }
+
+        return toGoalListResponsePage(goalPage);
     }
 
-    public void increaseJoinCount(Long goalId) throws GoalNotFoundException {
-        Goal goal = goalRepository.findById(goalId)
-                .orElseThrow(() -> new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND));
-        goal.increaseJoinCount(1);
-        goalRepository.save(goal);
+    /**
+     * 키워드/관심직무 색인으로 후보 목표 ID 를 좁힌 검색 조건을 만든다. 색인만으로 결과가 없음을 알 수 있으면 empty 를 돌려준다.
+     * 키워드 후보가 ID_IN_LIMIT 개보다 많으면 ID 오름차순으로 ID_IN_LIMIT 개씩 나눈 조건들로 조회해, LIKE 로 테이블 전체를 훑지 않는다.
+     */
+    private Optional<SearchSpecifications> specificationsOf(GoalCriteria goalCriteria) {
+        Optional<Set<Long>> keywordHitIds = goalSearchIndex.searchAny(goalCriteria.getKeywordFields(), goalCriteria.getKeyword());
+        if (keywordHitIds.isPresent() && keywordHitIds.get().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> interestHitIds = null;
+        Set<Long> jobInterestIds = goalCriteria.getJobInterestIdSet();
+        if (jobInterestIds != null && !jobInterestIds.isEmpty()) {
+            Optional<BitSet> matched = jobInterestGoalIndex.match(jobInterestIds, goalCriteria.getJobInterestMatchOrDefault());
+            if (matched.isPresent() && matched.get().isEmpty()) {
+                return Optional.empty();
+            }
+
+            if (matched.isPresent() && matched.get().cardinality() <= ID_IN_LIMIT) {
+                interestHitIds = matched.get().stream()
+                        .mapToObj(Long::valueOf)
+                        .collect(Collectors.toSet());
+            }
+        }
+
+        Set<Long> keywordInIds = keywordHitIds.filter(ids -> ids.size() <= ID_IN_LIMIT).orElse(null);
+        GoalSpecifications specifications = new GoalSpecifications(goalCriteria, keywordInIds, interestHitIds);
+        if (!keywordHitIds.isPresent() || keywordInIds != null) {
+            return Optional.of(new SearchSpecifications(specifications, Collections.singletonList(specifications),
+                    keywordHitIds.orElse(null)));
+        }
+
+        List<Long> sortedHitIds = new ArrayList<>(keywordHitIds.get());
+        Collections.sort(sortedHitIds);
+        List<Specification<Goal>> parts = new ArrayList<>(sortedHitIds.size() / ID_IN_LIMIT + 1);
+        for (int from = 0; from < sortedHitIds.size(); from += ID_IN_LIMIT) {
+            parts.add(specifications.and(isGoalIdIn(sortedHitIds.subList(from, Math.min(from + ID_IN_LIMIT, sortedHitIds.size())))));
+        }
+        return Optional.of(new SearchSpecifications(specifications, parts, keywordHitIds.get()));
+    }
+
+    /**
+     * 검색 조건과, 그 결과를 겹치지 않게 나눈 조건들. 나눈 조건들은 ID 구간 순서라 차례로 이어 붙이면 ID 순 결과가 된다.
+     * keywordHitIds 는 키워드 색인이 찾은 후보 목표 ID 이며, 색인으로 좁힐 수 없는 키워드면 null 이다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class SearchSpecifications {
+        private final GoalSpecifications specifications;
+        private final List<Specification<Goal>> parts;
+        private final Set<Long> keywordHitIds;
+    }
+
+    private Page<GoalSummary> findSummaries(GoalCriteria goalCriteria, List<Specification<Goal>> parts) {
+        PageRequest pageRequest = goalCriteria.getPageRequest();
+        if (parts.size() == 1) {
+            return goalRepository.findSummaries(parts.get(0), pageRequest);
+        }
+
+        long offset = pageRequest.getOffset();
+        List<GoalSummary> top = findTopSummaries(parts, goalCriteria, (int) (offset + pageRequest.getPageSize()));
+        List<GoalSummary> content = offset < top.size() ? top.subList((int) offset, top.size()) : Collections.emptyList();
+        return new PageImpl<>(content, pageRequest, countOf(parts));
+    }
+
+    /**
+     * 나눈 조건마다 정렬된 앞쪽 limit 건을 읽어 합치고, 다시 정렬해 앞쪽 limit 건만 남긴다.
+     */
+    private List<GoalSummary> findTopSummaries(List<Specification<Goal>> parts, GoalCriteria goalCriteria, int limit) {
+        Comparator<GoalSummary> order = GoalCursor.orderOf(goalCriteria.getGoalSortBy(), goalCriteria.getDirection());
+        List<GoalSummary> top = new ArrayList<>();
+        for (Specification<Goal> part : parts) {
+            top.addAll(goalRepository.findSummariesWithLimit(part, goalCriteria.getSeekSort(), limit));
+            top.sort(order);
+            if (top.size() > limit) {
+                top = new ArrayList<>(top.subList(0, limit));
+            }
+        }
+        return top;
+    }
+
+    private long countOf(List<Specification<Goal>> parts) {
+        long total = 0;
+        for (Specification<Goal> part : parts) {
+            total += goalRepository.count(part);
+        }
+        return total;
+    }
+
+    /* 나눈 조건들을 ID 구간 순서대로 읽어, 조건에 맞는 목표 ID 를 오름차순으로 limit 개까지 돌려준다. */
+    private List<Long> findIdsInIdOrder(List<Specification<Goal>> parts, int limit) {
+        List<Long> goalIds = new ArrayList<>();
+        for (Specification<Goal> part : parts) {
+            if (goalIds.size() >= limit) {
+                break;
+            }
+            goalIds.addAll(goalRepository.findIdsWithLimit(part, Sort.by(Goal_.id), limit - goalIds.size()));
+        }
+        return goalIds;
+    }
+
+    private Page<GoalListResponse> toGoalListResponsePage(Page<GoalSummary> goalPage) {
+        return new PageImpl<>(toGoalListResponses(goalPage.getContent()), goalPage.getPageable(), goalPage.getTotalElements());
+    }
+
+    /**
+     * 목록에 담긴 목표들의 관심직무와 참여자 이미지를 각각 한 번의 쿼리로 가져와 응답을 구성한다.
+     */
+    private List<GoalListResponse> toGoalListResponses(List<GoalSummary> goals) {
+        if (goals.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> goalIds = goals.stream().map(GoalSummary::getId).collect(Collectors.toList());
+        Map<Long, List<JobInterest>> jobInterestsByGoalId = goalJobInterestRepository.findJobInterestsByGoalIds(goalIds).stream()
+                .collect(Collectors.groupingBy(GoalJobInterestOfGoal::getGoalId,
+                        Collectors.mapping(GoalJobInterestOfGoal::getJobInterest, Collectors.toList())));
+        Map<Long, List<String>> userImagesByGoalId = memberRepository.getUserImageListByGoalIds(goalIds, GOAL_USER_IMAGE_LIMIT).stream()
+                .collect(Collectors.groupingBy(GoalUserImage::getGoalId,
+                        Collectors.mapping(GoalUserImage::getImagePath, Collectors.toList())));
+
+        return goals.stream()
+                .map(goal -> {
+                    GoalListResponse response = new GoalListResponse(goal,
+                            jobInterestsByGoalId.getOrDefault(goal.getId(), Collections.emptyList()),
+                            userImagesByGoalId.getOrDefault(goal.getId(), Collections.emptyList()));
+                    response.setJoinCount(goal.getJoinCount() + writeBehindCounter.pendingJoinCount(goal.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    public GoalCursorResponse searchByCursor(GoalCriteria goalCriteria) {
+        if (goalCriteria.isRankedByRelevance() || goalCriteria.isRankedByTrend()) {
+            throw new EroojaException(ErrorEnum.GOAL_INVALID_ARGS);
+        }
+
+        Optional<SearchSpecifications> specifications = specificationsOf(goalCriteria);
+
+        if (!specifications.isPresent()) {
+            return GoalCursorResponse.empty(goalCriteria.getPageRequest().getPageSize());
+        }
+
+        return findByCursor(specifications.get().getParts(), goalCriteria);
+    }
+
+    public GoalCursorResponse findGoalListByInterestIdWithCursor(String uid, Long interestId, GoalCriteria goalCriteria) {
+        return findByCursor(Collections.singletonList(new GoalFeedSpecifications(interestId, uid)), goalCriteria);
+    }
+
+    /**
+     * 커서 이후의 목표를 size + 1 건 조회해 다음 페이지 여부를 판단한다. OFFSET 과 COUNT 쿼리가 없어 몇 번째 페이지든 비용이 같다.
+     */
+    private GoalCursorResponse findByCursor(List<Specification<Goal>> parts, GoalCriteria goalCriteria) {
+        int size = goalCriteria.getPageRequest().getPageSize();
+        if (goalCriteria.getCursor() != null) {
+            GoalSeekSpecifications seek = new GoalSeekSpecifications(goalCriteria.getCursor());
+            parts = parts.stream().map(part -> part.and(seek)).collect(Collectors.toList());
+        }
+
+        List<GoalSummary> goals = parts.size() == 1
+                ? goalRepository.findSummariesWithLimit(parts.get(0), goalCriteria.getSeekSort(), size + 1)
+                : findTopSummaries(parts, goalCriteria, size + 1);
+        boolean hasNext = goals.size() > size;
+        List<GoalSummary> content = hasNext ? goals.subList(0, size) : goals;
+
+        List<GoalListResponse> responses = toGoalListResponses(content);
+
+        String nextCursor = hasNext
+                ? GoalCursor.of(content.get(content.size() - 1), goalCriteria.getGoalSortBy(), goalCriteria.getDirection()).encode()
+                : null;
+
+        return new GoalCursorResponse(responses, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 키워드 색인 후보를 관련도 점수로 매겨 상위부터 ID_IN_LIMIT 개씩 나머지 조건에 맞는지 확인하고, 요청한 페이지가 차면 멈춘다.
+     * 후보를 끝까지 확인하지 않았으면 전체 건수는 색인 후보 수로 대신한다.
+     */
+    private Page<GoalSummary> findByScore(GoalCriteria goalCriteria, SearchSpecifications searchSpecifications) {
+        PageRequest pageRequest = goalCriteria.getPageRequest();
+        Set<Long> keywordHitIds = searchSpecifications.getKeywordHitIds();
+        if (keywordHitIds == null) {
+            // 색인으로 좁힐 수 없는 짧은 키워드는 점수가 모두 같으므로 ID 순으로 조회한다.
+            return goalRepository.findSummaries(searchSpecifications.getSpecifications(),
+                    PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize(), Sort.by(Goal_.id)));
+        }
+
+        long offset = pageRequest.getOffset();
+        long pageEnd = offset + pageRequest.getPageSize();
+        if (offset >= keywordHitIds.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageRequest, keywordHitIds.size());
+        }
+
+        Map<Long, Double> scores = goalSearchIndex.score(goalCriteria.getKeyword(), keywordHitIds);
+        GoalSpecifications specifications = searchSpecifications.getSpecifications();
+        List<Long> rankedIds = TopKSelector.select(scores, (int) Math.min(pageEnd, scores.size()));
+        List<Long> matchedIds = new ArrayList<>();
+        int checked = 0;
+        while (true) {
+            while (checked < rankedIds.size() && matchedIds.size() < pageEnd) {
+                List<Long> chunk = rankedIds.subList(checked, Math.min(checked + ID_IN_LIMIT, rankedIds.size()));
+                Set<Long> chunkMatchedIds = new HashSet<>(goalRepository.findIds(specifications.and(isGoalIdIn(chunk))));
+                chunk.stream().filter(chunkMatchedIds::contains).forEach(matchedIds::add);
+                checked += chunk.size();
+            }
+            if (matchedIds.size() >= pageEnd || rankedIds.size() == scores.size()) {
+                break;
+            }
+            rankedIds = TopKSelector.select(scores, (int) Math.min(rankedIds.size() * 2L, scores.size()));
+        }
+
+        long total = checked == scores.size() ? matchedIds.size() : keywordHitIds.size();
+        List<Long> pageIds = offset < matchedIds.size()
+                ? matchedIds.subList((int) offset, (int) Math.min(pageEnd, matchedIds.size()))
+                : Collections.emptyList();
+        return new PageImpl<>(findSummariesInOrder(pageIds), pageRequest, total);
+    }
+
+    /**
+     * 추세 정렬은 최근 참여가 있어 추적 중인 목표만 점수 순으로 ID_IN_LIMIT 개씩 조건에 맞는지 확인해 순위를 매긴다.
+     * 점수가 0 인 나머지 목표는 ID 오름차순으로 그 뒤에 이어 붙이므로, 조건에 맞는 목표 ID 를 전부 읽지 않는다.
+     */
+    private Page<GoalSummary> findByTrend(GoalCriteria goalCriteria, SearchSpecifications searchSpecifications) {
+        PageRequest pageRequest = goalCriteria.getPageRequest();
+        long offset = pageRequest.getOffset();
+        long pageEnd = offset + pageRequest.getPageSize();
+        GoalSpecifications specifications = searchSpecifications.getSpecifications();
+
+        long total = countOf(searchSpecifications.getParts());
+        if (offset >= total) {
+            return new PageImpl<>(Collections.emptyList(), pageRequest, total);
+        }
+
+        List<Long> rankedIds = goalTrendCounter.rankedGoalIds();
+        List<Long> trendingIds = new ArrayList<>();
+        for (int from = 0; from < rankedIds.size() && trendingIds.size() < pageEnd; from += ID_IN_LIMIT) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + ID_IN_LIMIT, rankedIds.size()));
+            Set<Long> matchedIds = new HashSet<>(goalRepository.findIds(specifications.and(isGoalIdIn(chunk))));
+            chunk.stream().filter(matchedIds::contains).forEach(trendingIds::add);
+        }
+
+        List<Long> pageIds = new ArrayList<>(pageRequest.getPageSize());
+        if (offset < trendingIds.size()) {
+            pageIds.addAll(trendingIds.subList((int) offset, (int) Math.min(pageEnd, trendingIds.size())));
+        }
+
+        if (pageIds.size() < pageRequest.getPageSize()) {
+            long coldOffset = Math.max(offset - trendingIds.size(), 0);
+            int coldCount = pageRequest.getPageSize() - pageIds.size();
+            Set<Long> trendingIdSet = new HashSet<>(trendingIds);
+            findIdsInIdOrder(searchSpecifications.getParts(),
+                    (int) Math.min(coldOffset + coldCount + trendingIds.size(), Integer.MAX_VALUE)).stream()
+                    .filter(goalId -> !trendingIdSet.contains(goalId))
+                    .skip(coldOffset)
+                    .limit(coldCount)
+                    .forEach(pageIds::add);
+        }
+
+        return new PageImpl<>(findSummariesInOrder(pageIds), pageRequest, total);
+    }
+
+    private static Specification<Goal> isGoalIdIn(Collection<Long> goalIds) {
+        return (root, query, cb) -> root.get(Goal_.id).in(goalIds);
+    }
+
+    private List<GoalSummary> findSummariesInOrder(List<Long> goalIds) {
+        if (goalIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, GoalSummary> goalById = goalRepository.findSummariesWithLimit(isGoalIdIn(goalIds), Sort.unsorted(), goalIds.size()).stream()
+                .collect(Collectors.toMap(GoalSummary::getId, Function.identity()));
+        return goalIds.stream()
+                .map(goalById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 참여 인원 증가분을 쌓는다. 목표는 호출한 쪽에서 이미 읽어 확인했으므로 다시 조회하지 않는다.
+     */
+    public void increaseJoinCount(Goal goal) {
+        writeBehindCounter.increaseJoinCount(goal.getId());
+        goalTitleSuggester.increaseJoinCount(goal.getId(), 1);
+        AfterCommit.run(() -> goalSearchCache.invalidateJoinCountOf(goal.getId()));
     }
 
     public Goal updateGoal(Long goalId, UpdateGoalRequestDTO updateGoalRequest) {
         Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND));
+        String oldTitle = goal.getTitle();
+        String oldDescription = goal.getDescription();
 
         if (updateGoalRequest.isTitleChanged())
             goal.setTitle(updateGoalRequest.getTitle());
@@ -84,7 +496,11 @@ public class GoalService {
         if (updateGoalRequest.isDescriptionChanged())
             goal.setDescription(updateGoalRequest.getDescription());
 
-        return goalRepository.save(goal);
+        Goal updated = goalRepository.save(goal);
+        goalSearchIndex.update(goalId, oldTitle, oldDescription, updated.getTitle(), updated.getDescription());
+        goalTitleSuggester.put(goalId, updated.getTitle(), updated.getJoinCount());
+        AfterCommit.run(goalSearchCache::invalidateAll);
+        return updated;
     }
 
     public void updateFinishedGoalToEnd(){
@@ -96,5 +512,7 @@ public class GoalService {
         });
 
         goalRepository.saveAll(finishGoals);
+        AfterCommit.run(goalSearchCache::invalidateAll);
+        interestRecommendationMaterializer.markDirty();
     }
 }
\ No newline at end of file
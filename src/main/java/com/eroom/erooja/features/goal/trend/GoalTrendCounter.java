@@ -0,0 +1,233 @@
+package com.eroom.erooja.features.goal.trend;
+
+import com.eroom.erooja.common.transaction.AfterCommit;
+import com.eroom.erooja.features.goal.index.TopKSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 목표별 최근 참여 속도 카운터. 목표마다 windowHours 개의 시간 단위 버킷을 링 버퍼로 두고 참여 시 현재 시간 버킷의 LongAdder 를 올린다.
+ * 점수는 윈도우 안의 참여 수를 최근일수록 크게(선형 감쇠) 더한 값이다.
+ * 추적하는 목표 수는 maxGoals 로 제한해 최근 참여가 없거나 점수가 낮은 목표부터 내보내며,
+ * 종료 시 윈도우를 파일로 저장하고 시작 시 다시 읽어 재시작으로 추세가 사라지지 않게 한다.
+ */
+@Component
+public class GoalTrendCounter {
+    private static final Logger logger = LoggerFactory.getLogger(GoalTrendCounter.class);
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final int windowHours;
+    private final int maxGoals;
+    private final String snapshotPath;
+    private final LongSupplier clock;
+
+    private final Map<Long, HourlyWindow> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GoalTrendCounter(@Value("${trendProperties.windowHours:24}") int windowHours,
+                            @Value("${trendProperties.maxGoals:10000}") int maxGoals,
+                            @Value("${trendProperties.snapshotPath:}") String snapshotPath) {
+        this(windowHours, maxGoals, snapshotPath, System::currentTimeMillis);
+    }
+
+    GoalTrendCounter(int windowHours, int maxGoals, String snapshotPath, LongSupplier clock) {
+        this.windowHours = windowHours;
+        this.maxGoals = maxGoals;
+        this.snapshotPath = snapshotPath;
+        this.clock = clock;
+    }
+
+    /**
+     * 참여 트랜잭션이 커밋된 뒤에 센다. 최대 개수를 넘긴 목표는 요청 스레드가 아닌 evictCold 주기에서 내보낸다.
+     */
+    public void recordJoin(Long goalId) {
+        AfterCommit.run(() -> windows.computeIfAbsent(goalId, key -> new HourlyWindow(windowHours))
+                .add(currentHour(), 1L));
+    }
+
+    /**
+     * 주어진 목표들의 최근 참여 속도 점수, 추적하지 않는 목표는 0 이다.
+     */
+    public Map<Long, Double> score(Collection<Long> goalIds) {
+        long hour = currentHour();
+        Map<Long, Double> scores = new HashMap<>(goalIds.size() * 2);
+        for (Long goalId : goalIds) {
+            HourlyWindow window = windows.get(goalId);
+            scores.put(goalId, window == null ? 0.0 : window.weightedSum(hour));
+        }
+        return scores;
+    }
+
+    /**
+     * 최근 참여가 있는 목표 ID 를 점수 높은 순으로 돌려준다. 여기에 없는 목표의 점수는 모두 0 이다.
+     */
+    public List<Long> rankedGoalIds() {
+        Map<Long, Double> scores = score(windows.keySet());
+        scores.values().removeIf(score -> score == 0.0);
+        return TopKSelector.select(scores, scores.size());
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * 추적 중인 목표를 모두 버린다. DB 를 초기화해 ID 가 다시 쓰일 때 호출한다.
+     */
+    public void clear() {
+        windows.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${trendProperties.evictIntervalMillis:600000}")
+    public synchronized void evictCold() {
+        long hour = currentHour();
+        windows.values().removeIf(window -> window.weightedSum(hour) == 0.0);
+
+        if (windows.size() > maxGoals) {
+            Set<Long> hottest = new HashSet<>(TopKSelector.select(score(windows.keySet()), maxGoals));
+            windows.keySet().retainAll(hottest);
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (StringUtils.isEmpty(snapshotPath) || !Files.exists(Paths.get(snapshotPath))) {
+            return;
+        }
+
+        long hour = currentHour();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                logger.warn("목표 추세 스냅샷 버전이 달라 불러오지 않습니다. - {}", snapshotPath);
+                return;
+            }
+
+            int goalCount = in.readInt();
+            for (int i = 0; i < goalCount; i++) {
+                long goalId = in.readLong();
+                int bucketCount = in.readInt();
+                for (int j = 0; j < bucketCount; j++) {
+                    long bucketHour = in.readLong();
+                    long count = in.readLong();
+                    if (hour - bucketHour < windowHours && bucketHour <= hour) {
+                        windows.computeIfAbsent(goalId, key -> new HourlyWindow(windowHours)).add(bucketHour, count);
+                    }
+                }
+            }
+            logger.info("목표 추세 스냅샷 불러오기 완료 - 목표 {}개", windows.size());
+        } catch (IOException e) {
+            logger.warn("목표 추세 스냅샷을 불러오지 못했습니다. - {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshot() {
+        if (StringUtils.isEmpty(snapshotPath)) {
+            return;
+        }
+
+        long hour = currentHour();
+        Path target = Paths.get(snapshotPath);
+        Path temp = Paths.get(snapshotPath + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+            Map<Long, HourlyWindow> live = new HashMap<>(windows);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(live.size());
+            for (Map.Entry<Long, HourlyWindow> entry : live.entrySet()) {
+                out.writeLong(entry.getKey());
+                entry.getValue().writeTo(out, hour);
+            }
+        } catch (IOException e) {
+            logger.warn("목표 추세 스냅샷을 저장하지 못했습니다. - {}", snapshotPath, e);
+            return;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("목표 추세 스냅샷 저장 완료 - 목표 {}개", windows.size());
+        } catch (IOException e) {
+            logger.warn("목표 추세 스냅샷을 저장하지 못했습니다. - {}", snapshotPath, e);
+        }
+    }
+
+    private long currentHour() {
+        return clock.getAsLong() / HOUR_MILLIS;
+    }
+
+    /**
+     * 시간 단위 버킷 링 버퍼, 버킷을 재사용할 때만 잠그고 증가는 LongAdder 로 경합 없이 처리한다.
+     */
+    private static class HourlyWindow {
+        private final LongAdder[] counts;
+        private final AtomicLongArray hours;
+
+        HourlyWindow(int windowHours) {
+            this.counts = new LongAdder[windowHours];
+            this.hours = new AtomicLongArray(windowHours);
+            for (int i = 0; i < windowHours; i++) {
+                counts[i] = new LongAdder();
+                hours.set(i, -1L);
+            }
+        }
+
+        void add(long hour, long count) {
+            int slot = (int) (hour % counts.length);
+            if (hours.get(slot) != hour) {
+                synchronized (this) {
+                    if (hours.get(slot) != hour) {
+                        counts[slot].reset();
+                        hours.set(slot, hour);
+                    }
+                }
+            }
+            counts[slot].add(count);
+        }
+
+        double weightedSum(long hour) {
+            double sum = 0.0;
+            for (int slot = 0; slot < counts.length; slot++) {
+                long age = hour - hours.get(slot);
+                if (age >= 0 && age < counts.length) {
+                    sum += counts[slot].sum() * (1.0 - (double) age / counts.length);
+                }
+            }
+            return sum;
+        }
+
+        void writeTo(DataOutput out, long hour) throws IOException {
+            List<long[]> live = new ArrayList<>(counts.length);
+            for (int slot = 0; slot < counts.length; slot++) {
+                long bucketHour = hours.get(slot);
+                long age = hour - bucketHour;
+                if (age >= 0 && age < counts.length) {
+                    live.add(new long[]{bucketHour, counts[slot].sum()});
+                }
+            }
+
+            out.writeInt(live.size());
+            for (long[] bucket : live) {
+                out.writeLong(bucket[0]);
+                out.writeLong(bucket[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.eroom.erooja.features.goaljobinterest.dto;
+
+import com.eroom.erooja.domain.model.JobInterest;
+
+public interface GoalJobInterestOfGoal {
+    Long getGoalId();
+    JobInterest getJobInterest();
+}
@@ -0,0 +1,7 @@
+package com.eroom.erooja.features.goaljobinterest.dto;
+
+public interface GoalJobInterestPair {
+    Long getId();
+    Long getGoalId();
+    Long getJobInterestId();
+}
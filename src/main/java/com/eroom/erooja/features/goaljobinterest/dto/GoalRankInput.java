@@ -0,0 +1,13 @@
+package com.eroom.erooja.features.goaljobinterest.dto;
+
+import java.time.LocalDateTime;
+
+public interface GoalRankInput {
+    Long getId();
+    Long getJobInterestId();
+    Long getGoalId();
+    int getJoinCount();
+    LocalDateTime getCreateDt();
+    Boolean getIsDateFixed();
+    LocalDateTime getEndDt();
+}
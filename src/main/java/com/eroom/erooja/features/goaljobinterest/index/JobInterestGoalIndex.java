@@ -0,0 +1,110 @@
+package com.eroom.erooja.features.goaljobinterest.index;
+
+import com.eroom.erooja.features.goal.dto.JobInterestMatch;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalJobInterestPair;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 관심직무 ID -> 목표 ID 비트맵 색인.
+ * 관심직무 조건을 JOIN + DISTINCT 대신 비트맵 OR(ANY) / AND(ALL) 로 풀어 목표 ID 집합으로 넘기기 위해 사용한다.
+ * 목표 ID 가 int 범위를 넘으면 비트맵으로 표현할 수 없으므로 색인을 쓰지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class JobInterestGoalIndex {
+    private static final Logger logger = LoggerFactory.getLogger(JobInterestGoalIndex.class);
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final GoalJobInterestRepository goalJobInterestRepository;
+
+    private final Map<Long, BitSet> goalsByInterestId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean available = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            goalsByInterestId.clear();
+            available = true;
+
+            long lastId = 0L;
+            int indexedCount = 0;
+            List<GoalJobInterestPair> chunk;
+            do {
+                chunk = goalJobInterestRepository.findPairs(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (GoalJobInterestPair pair : chunk) {
+                    addWithoutLock(pair.getGoalId(), pair.getJobInterestId());
+                    lastId = pair.getId();
+                }
+                indexedCount += chunk.size();
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            logger.info("관심직무 비트맵 색인 구성 완료 - 관심직무 {}개, 목표-관심직무 {}건, 사용 가능 여부 {}",
+                    goalsByInterestId.size(), indexedCount, available);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(Long goalId, Long jobInterestId) {
+        lock.writeLock().lock();
+        try {
+            addWithoutLock(goalId, jobInterestId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관심직무 조건에 맞는 목표 ID 비트맵을 돌려준다. 색인을 사용할 수 없으면 empty 를 돌려준다.
+     */
+    public Optional<BitSet> match(Set<Long> jobInterestIds, JobInterestMatch jobInterestMatch) {
+        lock.readLock().lock();
+        try {
+            if (!available) {
+                return Optional.empty();
+            }
+
+            BitSet matched = null;
+            for (Long jobInterestId : jobInterestIds) {
+                BitSet goals = goalsByInterestId.getOrDefault(jobInterestId, new BitSet());
+                if (matched == null) {
+                    matched = (BitSet) goals.clone();
+                } else if (jobInterestMatch == JobInterestMatch.ALL) {
+                    matched.and(goals);
+                } else {
+                    matched.or(goals);
+                }
+            }
+            return Optional.of(matched == null ? new BitSet() : matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addWithoutLock(Long goalId, Long jobInterestId) {
+        if (goalId == null || jobInterestId == null) {
+            return;
+        }
+
+        if (goalId > Integer.MAX_VALUE) {
+            logger.warn("목표 ID {} 가 비트맵 범위를 넘어 관심직무 비트맵 색인을 사용하지 않습니다.", goalId);
+            available = false;
+            return;
+        }
+
+        goalsByInterestId.computeIfAbsent(jobInterestId, key -> new BitSet()).set(goalId.intValue());
+    }
+}
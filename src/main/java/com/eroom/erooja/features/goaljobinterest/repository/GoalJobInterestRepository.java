@@ -1,9 +1,32 @@
 package com.eroom.erooja.features.goaljobinterest.repository;
 
 import com.eroom.erooja.domain.model.GoalJobInterest;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalJobInterestOfGoal;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalJobInterestPair;
+import com.eroom.erooja.features.goaljobinterest.dto.GoalRankInput;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface GoalJobInterestRepository extends JpaRepository<GoalJobInterest, Long> {
+    @Query("SELECT i.id AS id, i.goal.id AS goalId, i.jobInterest.id AS jobInterestId FROM GoalJobInterest i " +
+            "WHERE i.id > :lastId " +
+            "ORDER BY i.id")
+    List<GoalJobInterestPair> findPairs(Long lastId, Pageable pageable);
+
+    @Query("SELECT i.goal.id AS goalId, j AS jobInterest FROM GoalJobInterest i JOIN i.jobInterest j " +
+            "WHERE i.goal.id IN :goalIds " +
+            "ORDER BY i.id")
+    List<GoalJobInterestOfGoal> findJobInterestsByGoalIds(Collection<Long> goalIds);
+
+    @Query("SELECT i.id AS id, i.jobInterest.id AS jobInterestId, g.id AS goalId, g.joinCount AS joinCount, " +
+            "g.createDt AS createDt, g.isDateFixed AS isDateFixed, g.endDt AS endDt FROM GoalJobInterest i JOIN i.goal g " +
+            "WHERE i.id > :lastId AND g.isEnd = false " +
+            "ORDER BY i.id")
+    List<GoalRankInput> findRankInputs(Long lastId, Pageable pageable);
 }
@@ -1,9 +1,13 @@
 package com.eroom.erooja.features.goaljobinterest.service;
 
+import com.eroom.erooja.common.transaction.AfterCommit;
 import com.eroom.erooja.domain.model.Goal;
 import com.eroom.erooja.domain.model.GoalJobInterest;
 import com.eroom.erooja.domain.model.JobInterest;
 import com.eroom.erooja.domain.model.MemberJobInterest;
+import com.eroom.erooja.features.goal.cache.GoalSearchCache;
+import com.eroom.erooja.features.goal.recommend.InterestRecommendationMaterializer;
+import com.eroom.erooja.features.goaljobinterest.index.JobInterestGoalIndex;
 import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
 import com.eroom.erooja.domain.repos.JobInterestRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,21 +21,31 @@ import java.util.stream.Collectors;
 public class GoalJobInterestService {
     private final JobInterestRepository jobInterestRepository;
     private final GoalJobInterestRepository goalJobInterestRepository;
+    private final GoalSearchCache goalSearchCache;
+    private final JobInterestGoalIndex jobInterestGoalIndex;
+    private final InterestRecommendationMaterializer interestRecommendationMaterializer;
 
     public List<JobInterest> getJobGroupList(Long goalId) {
         return null;
     }
 
     public GoalJobInterest addJobInterestForGoal(Long goalId, Long jobInterestId) {
-        return goalJobInterestRepository.save(
+        GoalJobInterest goalJobInterest = goalJobInterestRepository.save(
                 GoalJobInterest.builder()
                 .goal(Goal.builder().id(goalId).build())
                 .jobInterest(JobInterest.builder().id(jobInterestId).build()).build());
+
+        jobInterestGoalIndex.add(goalId, jobInterestId);
+        interestRecommendationMaterializer.markDirty();
+        return goalJobInterest;
     }
 
     public List<GoalJobInterest> addJobInterestListForGoal(Long goalId, List<Long> jobInterestId) {
-        return jobInterestId.stream()
+        List<GoalJobInterest> goalJobInterests = jobInterestId.stream()
                 .map(interestId-> addJobInterestForGoal(goalId, interestId))
                 .collect(Collectors.toList());
+
+        AfterCommit.run(goalSearchCache::invalidateAll);
+        return goalJobInterests;
     }
 }
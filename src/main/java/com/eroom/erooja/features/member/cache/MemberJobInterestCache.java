@@ -0,0 +1,49 @@
+package com.eroom.erooja.features.member.cache;
+
+import com.eroom.erooja.common.cache.CacheStats;
+import com.eroom.erooja.common.cache.ExpiringCache;
+import com.eroom.erooja.domain.model.JobInterest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 사용자별 관심 직무 목록 캐시. 캐시에 없는 사용자만 모아 loader 로 한 번에 읽는다.
+ * 관심 직무를 추가/삭제하면 해당 사용자 항목을 비운다.
+ */
+@Component
+public class MemberJobInterestCache {
+    private final ExpiringCache<String, List<JobInterest>> interests;
+
+    public MemberJobInterestCache(@Value("${cacheProperties.memberInterestTtlSeconds:300}") long ttlSeconds,
+                                  @Value("${cacheProperties.memberInterestMaxEntries:10000}") int maxEntries) {
+        this.interests = new ExpiringCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public Map<String, List<JobInterest>> getAll(Collection<String> uids,
+                                                 Function<Set<String>, Map<String, List<JobInterest>>> loader) {
+        return interests.getAll(uids, missingUids -> {
+            Map<String, List<JobInterest>> loaded = loader.apply(missingUids);
+            Map<String, List<JobInterest>> interestsByUid = new HashMap<>(missingUids.size() * 2);
+            for (String uid : missingUids) {
+                interestsByUid.put(uid, Collections.unmodifiableList(
+                        new ArrayList<>(loaded.getOrDefault(uid, Collections.emptyList()))));
+            }
+            return interestsByUid;
+        });
+    }
+
+    public void invalidate(String uid) {
+        interests.invalidate(uid);
+    }
+
+    public void invalidateAll() {
+        interests.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return interests.stats();
+    }
+}
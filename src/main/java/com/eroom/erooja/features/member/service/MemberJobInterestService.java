@@ -9,6 +9,7 @@ import com.eroom.erooja.domain.model.Members;
 import com.eroom.erooja.domain.repos.JobInterestRepository;
 import com.eroom.erooja.domain.repos.MemberJobInterestRepository;
 import com.eroom.erooja.features.interest.service.JobInterestService;
+import com.eroom.erooja.features.member.cache.MemberJobInterestCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ public class MemberJobInterestService {
     private final JobInterestRepository jobInterestRepository;
     private final JobInterestService jobInterestService;
     private final MemberJobInterestRepository memberJobInterestRepository;
+    private final MemberJobInterestCache memberJobInterestCache;
 
     public List<JobInterest> getJobGroupList(String uid) {
         List<MemberJobInterest> interests
@@ -64,11 +66,14 @@ public class MemberJobInterestService {
                         .build());
         }
 
-        return memberJobInterestRepository.save(
+        MemberJobInterest saved = memberJobInterestRepository.save(
                 MemberJobInterest.builder()
                         .jobInterest(interest)
                         .member(member)
                     .build());
+        memberJobInterestCache.invalidate(uid);
+
+        return saved;
     }
 
     public Integer addJobInterestListForUid(String uid, List<Long> ids) {
@@ -83,14 +88,14 @@ public class MemberJobInterestService {
     }
 
     public Map<String, List<JobInterest>> getJobInterestsByUids(List<String> uids) {
-        Map<String, List<JobInterest>> jobInterestsByUid = new HashMap<>();
-
-        uids.forEach(uid -> {
-            List<MemberJobInterest> memberJobInterest = memberJobInterestRepository.getAllByMember_Uid(uid);
-            jobInterestsByUid.put(uid, memberJobInterest.stream().map(MemberJobInterest::getJobInterest).collect(Collectors.toList()));
-        });
+        return memberJobInterestCache.getAll(uids, this::findJobInterestsByUids);
+    }
 
-        return jobInterestsByUid;
+    private Map<String, List<JobInterest>> findJobInterestsByUids(Set<String> uids) {
+        return memberJobInterestRepository.findAllByMember_UidIn(uids).stream()
+                .collect(Collectors.groupingBy(
+                        memberJobInterest -> memberJobInterest.getMember().getUid(),
+                        Collectors.mapping(MemberJobInterest::getJobInterest, Collectors.toList())));
     }
 
     public void deleteByUidAndJobInterestId(String uid, Long jobInterestId) {
@@ -101,6 +106,7 @@ public class MemberJobInterestService {
         }
 
         memberJobInterestRepository.delete(memberJobInterest);
+        memberJobInterestCache.invalidate(uid);
     }
 
     public Integer deleteJobInterestListForUid(String uid, List<Long> ids) {
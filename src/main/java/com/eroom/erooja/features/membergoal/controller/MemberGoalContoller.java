@@ -55,13 +55,7 @@ public class MemberGoalContoller {
 
         String uid = jwtTokenProvider.getUidFromHeader(header);
 
-        MemberGoal memberGoal = null;
-        if(memberGoalService.isAlreadyExistJoin(uid, goalJoinRequest.getGoalId())){
-            GoalRole originRole = memberGoalService.getGoalRole(uid,goalJoinRequest.getGoalId());
-            memberGoal = memberGoalService.joinExistGoal(uid, originRole, goalJoinRequest);
-        }else{
-            memberGoal = memberGoalService.joinExistGoal(uid, GoalRole.PARTICIPANT, goalJoinRequest);
-        }
+        MemberGoal memberGoal = memberGoalService.joinExistGoal(uid, GoalRole.PARTICIPANT, goalJoinRequest);
 
         return new ResponseEntity(memberGoal, HttpStatus.CREATED);
     }
@@ -76,6 +70,14 @@ public class MemberGoalContoller {
 
     @GetMapping
     public ResponseEntity getGoalJoinListByUid(GoalJoinListRequestDTO goalJoinListRequestDTO) {
+        if (goalJoinListRequestDTO.isSlice()) {
+            return ResponseEntity.ok(memberGoalService.getGoalJoinSliceByUid(
+                    goalJoinListRequestDTO.getUid(),
+                    goalJoinListRequestDTO.isEnd(),
+                    goalJoinListRequestDTO.getPageable(),
+                    goalJoinListRequestDTO.isWithTotal()));
+        }
+
         Page<GoalJoinMemberDTO> memberGoalDTOPage
                 = (goalJoinListRequestDTO.isEnd()) ?
                 memberGoalService.getEndedGoalJoinPageByUid(
@@ -90,7 +92,13 @@ public class MemberGoalContoller {
     }
 
     @GetMapping("/{goalId}/todo")
-    public ResponseEntity getJoinTodoListByGoalId(Pageable pageable, @PathVariable Long goalId) {
+    public ResponseEntity getJoinTodoListByGoalId(Pageable pageable, @PathVariable Long goalId,
+                                                  @RequestParam(defaultValue = "false") boolean slice,
+                                                  @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (slice) {
+            return new ResponseEntity(memberGoalService.getJoinTodoSliceByGoalId(goalId, pageable, withTotal), HttpStatus.OK);
+        }
+
         Page<GoalJoinTodoDto> goalJoinTodoDtoPage = memberGoalService.getJoinTodoListByGoalId(goalId, pageable);
         return new ResponseEntity(goalJoinTodoDtoPage, HttpStatus.OK);
     }
@@ -24,6 +24,9 @@ public class GoalJoinListRequestDTO {
     private GoalSortBy sortBy;
     private Sort.Direction direction;
 
+    private boolean slice = false;
+    private boolean withTotal = false;
+
     public Pageable getPageable() {
         if (sortBy == null) {
             this.sortBy = GoalSortBy.ID;
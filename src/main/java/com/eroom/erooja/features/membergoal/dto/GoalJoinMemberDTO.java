@@ -3,8 +3,6 @@ package com.eroom.erooja.features.membergoal.dto;
 import com.eroom.erooja.domain.enums.GoalRole;
 import com.eroom.erooja.domain.model.Goal;
 import com.eroom.erooja.domain.model.MemberGoal;
-import com.eroom.erooja.domain.model.Todo;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,9 +32,6 @@ public class GoalJoinMemberDTO {
     MinimalGoalDetailDTO minimalGoalDetail;
 
     public static GoalJoinMemberDTO of(MemberGoal memberGoal, Goal goal) {
-        List<Todo> todoList = memberGoal.getTodoList();
-        double checkedTodoRate = todoList.stream().filter(Todo::getIsEnd).count() / (double) todoList.size();
-
         return GoalJoinMemberDTO.builder()
                     .goalId(memberGoal.getGoalId())
                     .role(memberGoal.getRole())
@@ -44,7 +39,7 @@ public class GoalJoinMemberDTO {
                     .copyCount(memberGoal.getCopyCount())
                     .startDt(memberGoal.getStartDt())
                     .endDt(memberGoal.getEndDt())
-                    .checkedTodoRate(checkedTodoRate)
+                    .checkedTodoRate(memberGoal.getCheckedTodoRate())
                     .minimalGoalDetail(MinimalGoalDetailDTO.of(goal))
                 .build();
     }
@@ -4,9 +4,9 @@ import com.eroom.erooja.features.todo.dto.AddTodoDTO;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.Future;
 import javax.validation.constraints.NotNull;
-import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,12 +21,13 @@ public class GoalJoinRequestDTO {
 
     String ownerUid;
 
+    /* true 이면 todoList 대신 ownerUid 의 할 일을 서버에서 복사한다. */
+    Boolean isCopyTodo;
+
     @Future(message = "반드시 미래 날짜여야합니다.")
     @NotNull(message = "종료 날짜를 선택해야 합니다.")
     LocalDateTime endDt;
 
-    @NotNull(message = "1개 이상의 리스트를 추가해주세요")
-    @Size(min = 1, message = "1개 이상의 리스트를 추가해주세요")
     private List<AddTodoDTO> todoList;
 
     @JsonIgnore
@@ -34,4 +35,21 @@ public class GoalJoinRequestDTO {
         if(ownerUid == null) return false;
         return true;
     }
+
+    @JsonIgnore
+    public boolean isCopyMode() {
+        return Boolean.TRUE.equals(isCopyTodo);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "1개 이상의 리스트를 추가해주세요")
+    public boolean isTodoListPresent() {
+        return isCopyMode() || (todoList != null && !todoList.isEmpty());
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "할일을 복사할 대상 uid를 전송해야 합니다.")
+    public boolean isCopySourcePresent() {
+        return !isCopyMode() || isExistOwnerUid();
+    }
 }
@@ -19,6 +19,7 @@ public class GoalJoinTodoDto {
     private GoalRole role;
     private Boolean isEnd;
     private int copyCount;
+    private double checkedTodoRate;
     private LocalDateTime startDt;
     private LocalDateTime endDt;
     private List<Todo> todoList;
@@ -28,6 +29,7 @@ public class GoalJoinTodoDto {
         this.uid = memberGoal.getUid();
         this.goalId=memberGoal.getGoalId();
         this.copyCount=memberGoal.getCopyCount();
+        this.checkedTodoRate=memberGoal.getCheckedTodoRate();
         this.endDt=memberGoal.getEndDt();
         this.isEnd=memberGoal.getIsEnd();
         this.role=memberGoal.getRole();
@@ -5,18 +5,27 @@ import com.eroom.erooja.domain.model.MemberGoalPK;
 import com.eroom.erooja.features.membergoal.dto.GoalJoinTodoDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface MemberGoalRepository extends JpaRepository<MemberGoal, MemberGoalPK>, MemberGoalRepositoryCustom {
     Page<MemberGoal> findAllByUid(String uid, Pageable pageable);
 
+    @Query(value = "SELECT mg.goalId FROM MemberGoal mg WHERE mg.uid = :uid AND mg.goalId IN :goalIds")
+    Set<Long> findGoalIdsByUidAndGoalIdIn(@Param("uid") String uid, @Param("goalIds") Collection<Long> goalIds);
+
+    @EntityGraph(attributePaths = "member")
     Page<MemberGoal> findAllByGoal_Id(Long goalId, Pageable pageable);
 
     int countMemberGoalByGoalId(Long goalId);
@@ -30,7 +39,51 @@ public interface MemberGoalRepository extends JpaRepository<MemberGoal, MemberGo
 
     Page<MemberGoal> findAllByUidAndEndDtIsAfterAndIsEndFalse(String uid, LocalDateTime now, Pageable pageable);
 
+    @Query(value = "SELECT mg FROM MemberGoal mg WHERE mg.uid = :uid and (mg.endDt < :now OR mg.isEnd = true)")
+    Slice<MemberGoal> findEndedSliceByUid(@Param("uid") String uid, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(mg) FROM MemberGoal mg WHERE mg.uid = :uid and (mg.endDt < :now OR mg.isEnd = true)")
+    long countEndedByUid(@Param("uid") String uid, @Param("now") LocalDateTime now);
+
+    Slice<MemberGoal> findSliceByUidAndEndDtIsAfterAndIsEndFalse(String uid, LocalDateTime now, Pageable pageable);
+
+    long countByUidAndEndDtIsAfterAndIsEndFalse(String uid, LocalDateTime now);
+
     List<MemberGoal> findAllByEndDtBetweenAndIsEndFalse(LocalDateTime fromDt, LocalDateTime toDt);
 
     List<MemberGoal> findAllByEndDtBeforeAndIsEndFalse(LocalDateTime now);
+
+    /**
+     * 참여 행이 없을 때만 넣는다. 넣었으면 1, 이미 있으면 아무것도 바꾸지 않고 0 을 돌려준다.
+     * INSERT IGNORE 와 달리 중복 키 외의 오류(외래 키, 값 잘림)는 그대로 예외가 된다.
+     * 바꾼 행 수를 받으려면 MySQL 드라이버에 useAffectedRows=true 가 필요하다. (기본값은 찾은 행 수라 이미 있어도 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_goal (uid, goal_id, role, is_end, copy_count, start_dt, end_dt, create_dt, update_dt) " +
+            "VALUES (:uid, :goalId, :role, false, 0, :startDt, :endDt, :startDt, :startDt) " +
+            "ON DUPLICATE KEY UPDATE uid = uid", nativeQuery = true)
+    int insertIfAbsent(@Param("uid") String uid, @Param("goalId") Long goalId, @Param("role") String role,
+                       @Param("startDt") LocalDateTime startDt, @Param("endDt") LocalDateTime endDt);
+
+    @Modifying
+    @Query(value = "UPDATE MemberGoal mg SET mg.isEnd = false, mg.startDt = :startDt, mg.endDt = :endDt, mg.updateDt = :startDt " +
+            "WHERE mg.uid = :uid AND mg.goalId = :goalId")
+    int restart(@Param("uid") String uid, @Param("goalId") Long goalId,
+                @Param("startDt") LocalDateTime startDt, @Param("endDt") LocalDateTime endDt);
+
+    /* MariaDB 는 SET 의 앞선 대입 결과를 뒤 식에서 쓰므로, 바뀌기 전 값으로 계산하도록 달성률을 먼저 대입한다. */
+    @Modifying
+    @Query(value = "UPDATE member_goal SET " +
+            "checked_todo_rate = CASE WHEN todo_total + :totalDelta > 0 " +
+            "THEN (todo_done + :doneDelta) * 1.0 / (todo_total + :totalDelta) ELSE 0 END, " +
+            "todo_total = todo_total + :totalDelta, " +
+            "todo_done = todo_done + :doneDelta " +
+            "WHERE uid = :uid AND goal_id = :goalId", nativeQuery = true)
+    int changeTodoProgress(@Param("uid") String uid, @Param("goalId") Long goalId,
+                           @Param("totalDelta") int totalDelta, @Param("doneDelta") int doneDelta);
+
+    @Modifying
+    @Query(value = "UPDATE MemberGoal mg SET mg.todoTotal = 0, mg.todoDone = 0, mg.checkedTodoRate = 0 " +
+            "WHERE mg.uid = :uid AND mg.goalId = :goalId")
+    int clearTodoProgress(@Param("uid") String uid, @Param("goalId") Long goalId);
 }
@@ -4,9 +4,12 @@ import com.eroom.erooja.features.membergoal.dto.GoalJoinTodoDto;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import javax.persistence.EntityManager;
 
 public interface MemberGoalRepositoryCustom {
     public Page<GoalJoinTodoDto> getJoinTodoListByGoalId(Long goalID, Pageable pageable);
+
+    public Slice<GoalJoinTodoDto> getJoinTodoSliceByGoalId(Long goalID, Pageable pageable);
 }
@@ -2,27 +2,31 @@ package com.eroom.erooja.features.membergoal.repository;
 
 import com.eroom.erooja.domain.model.MemberGoal;
 import com.eroom.erooja.domain.model.QMembers;
+import com.eroom.erooja.domain.model.Todo;
 import com.eroom.erooja.features.membergoal.dto.GoalJoinTodoDto;
-import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.eroom.erooja.domain.model.QMemberGoal.memberGoal;
+import static com.eroom.erooja.domain.model.QTodo.todo;
 
 
 public class MemberGoalRepositoryImpl implements MemberGoalRepositoryCustom {
@@ -32,12 +36,37 @@ public class MemberGoalRepositoryImpl implements MemberGoalRepositoryCustom {
 
     @Transactional
     public Page<GoalJoinTodoDto> getJoinTodoListByGoalId(Long goalID, Pageable pageable) {
+        List<MemberGoal> memberGoalList = joinTodoQuery(goalID, pageable)
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(toJoinTodoDtoList(goalID, memberGoalList), pageable,
+                () -> queryFactory.select(memberGoal.count())
+                        .from(memberGoal)
+                        .where(memberGoal.goalId.eq(goalID))
+                        .fetchOne());
+    }
+
+    @Transactional
+    public Slice<GoalJoinTodoDto> getJoinTodoSliceByGoalId(Long goalID, Pageable pageable) {
+        List<MemberGoal> memberGoalList = joinTodoQuery(goalID, pageable)
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = memberGoalList.size() > pageable.getPageSize();
+        if (hasNext) {
+            memberGoalList = memberGoalList.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(toJoinTodoDtoList(goalID, memberGoalList), pageable, hasNext);
+    }
+
+    private JPAQuery<MemberGoal> joinTodoQuery(Long goalID, Pageable pageable) {
         JPAQuery<MemberGoal> query = queryFactory
                 .selectFrom(memberGoal)
-                .join(memberGoal.member, QMembers.members)
+                .join(memberGoal.member, QMembers.members).fetchJoin()
                 .where(memberGoal.goalId.eq(goalID))
-                .fetchJoin().offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .offset(pageable.getOffset());
 
         for (Sort.Order o : pageable.getSort()) {
             PathBuilder pathBuilder = new PathBuilder(memberGoal.getType(),
@@ -46,18 +75,32 @@ public class MemberGoalRepositoryImpl implements MemberGoalRepositoryCustom {
                     pathBuilder.get(o.getProperty())));
         }
 
-        QueryResults<MemberGoal> memberGoalList = query.fetchResults();
-        List<GoalJoinTodoDto> goalJoinTodoDtoList = memberGoalList.getResults().stream()
-                .map(join -> {
-                            Hibernate.initialize(join.getTodoList());
-                            return new GoalJoinTodoDto(
-                                    join,
-                                    join.getTodoList(),
-                                    join.getMember().getNickname());
-                        }
-                )
-                .collect(Collectors.toList());
+        return query;
+    }
 
-        return new PageImpl<>(goalJoinTodoDtoList, pageable, query.fetchResults().getTotal());
+    /**
+     * 페이지에 담긴 참여자들의 할 일을 IN 쿼리 한 번으로 읽어 참여자별로 나눈다. (todo(uid, goal_id, priority) 인덱스 사용)
+     */
+    private List<GoalJoinTodoDto> toJoinTodoDtoList(Long goalID, List<MemberGoal> memberGoalList) {
+        if (memberGoalList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> uids = memberGoalList.stream().map(MemberGoal::getUid).collect(Collectors.toList());
+        Map<String, List<Todo>> todosByUid = queryFactory
+                .selectFrom(todo)
+                .where(todo.memberGoal.goalId.eq(goalID),
+                        todo.memberGoal.uid.in(uids))
+                .orderBy(todo.priority.asc(), todo.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(Todo::getUid));
+
+        return memberGoalList.stream()
+                .map(join -> new GoalJoinTodoDto(
+                        join,
+                        todosByUid.getOrDefault(join.getUid(), new ArrayList<>()),
+                        join.getMember().getNickname()))
+                .collect(Collectors.toList());
     }
 }
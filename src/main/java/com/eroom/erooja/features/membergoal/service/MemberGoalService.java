@@ -1,12 +1,16 @@
 package com.eroom.erooja.features.membergoal.service;
 
+import com.eroom.erooja.common.cache.ApproximateCountCache;
 import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.counter.WriteBehindCounter;
+import com.eroom.erooja.common.dto.SliceResponse;
 import com.eroom.erooja.common.exception.EroojaException;
 import com.eroom.erooja.domain.enums.GoalRole;
 import com.eroom.erooja.domain.model.*;
 import com.eroom.erooja.features.goal.exception.GoalNotFoundException;
 import com.eroom.erooja.features.goal.repository.GoalRepository;
 import com.eroom.erooja.features.goal.service.GoalService;
+import com.eroom.erooja.features.goal.trend.GoalTrendCounter;
 import com.eroom.erooja.features.member.service.MemberJobInterestService;
 import com.eroom.erooja.features.membergoal.dto.*;
 import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
@@ -15,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -27,7 +33,6 @@ import java.util.stream.Collectors;
 
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityManager;
 
 @RequiredArgsConstructor
 @Service
@@ -36,9 +41,16 @@ public class MemberGoalService {
     private final MemberGoalRepository memberGoalRepository;
     private final GoalRepository goalRepository;
     private final GoalService goalService;
+    private final GoalTrendCounter goalTrendCounter;
     private final TodoService todoService;
-    private final EntityManager em;
-
+    private final ApproximateCountCache approximateCountCache;
+    private final WriteBehindCounter writeBehindCounter;
+
+    /**
+     * 목표에 참여한다. 참여 행은 없을 때만 넣고(ON DUPLICATE KEY UPDATE), 이미 있으면 기간만 다시 시작하며 기존 역할은 유지한다.
+     * goalRole 은 새로 참여할 때의 역할이다. 참여 인원은 새로 넣었을 때만 늘리고 할 일은 배치로 한 번에 넣는다.
+     * 복사 모드(isCopyTodo)이면 todoList 대신 ownerUid 의 할 일을 INSERT ... SELECT 로 복사한다.
+     */
     @Transactional
     public MemberGoal joinExistGoal(String uid, GoalRole goalRole, GoalJoinRequestDTO goalJoinRequest) {
         Goal goal = goalRepository.findById(goalJoinRequest.getGoalId())
@@ -47,33 +59,52 @@ public class MemberGoalService {
         if (goal.isTerminated())
             throw new EroojaException(ErrorEnum.GOAL_TERMINATED);
 
+        /* 다시 참여할 때는 복사 전에 자신의 할 일을 지우므로, 자신의 할 일을 복사하면 빈 목록이 된다. */
+        if (goalJoinRequest.isCopyMode() && uid.equals(goalJoinRequest.getOwnerUid()))
+            throw new EroojaException(ErrorEnum.GOAL_JOIN_COPY_OWN_TODO);
+
         if (goalJoinRequest.isExistOwnerUid())
-            increaseCopyCount(goalJoinRequest.getOwnerUid(), goalJoinRequest.getGoalId());
+            increaseCopyCount(goalJoinRequest.getOwnerUid(), goal.getId());
 
-        if(!(isAlreadyExistJoin(uid, goal.getId())))
-            goalService.increaseJoinCount(goal.getId());
+        LocalDateTime startDt = LocalDateTime.now();
+        LocalDateTime endDt = goal.getIsDateFixed() ? goal.getEndDt() : goalJoinRequest.getEndDt();
 
-        if(isAlreadyExistJoin(uid, goal.getId()))
+        boolean isNewJoin = memberGoalRepository.insertIfAbsent(uid, goal.getId(), goalRole.name(), startDt, endDt) == 1;
+        if (isNewJoin) {
+            goalService.increaseJoinCount(goal);
+            goalTrendCounter.recordJoin(goal.getId());
+        } else {
+            memberGoalRepository.restart(uid, goal.getId(), startDt, endDt);
             todoService.deleteTodoAll(goal.getId(), uid);
+        }
 
-        MemberGoal memberGoal = null;
-        if (goal.getIsDateFixed())
-            memberGoal = addMemberGoal(uid, goal.getId(), goal.getEndDt(), goalRole);
-        else
-            memberGoal = addMemberGoal(uid, goal.getId(), goalJoinRequest.getEndDt(), goalRole);
+        int todoTotal = goalJoinRequest.isCopyMode()
+                ? todoService.copyTodo(goalJoinRequest.getOwnerUid(), uid, goal.getId())
+                : todoService.addTodo(uid, goal.getId(), goalJoinRequest.getTodoList()).size();
 
-        em.flush();
-        todoService.addTodo(uid, goal.getId(), goalJoinRequest.getTodoList());
+        if (!isNewJoin) {
+            return getGoalJoinByUidAndGoalId(uid, goal.getId());
+        }
 
+        MemberGoal memberGoal = MemberGoal.builder()
+                .uid(uid)
+                .goalId(goal.getId())
+                .role(goalRole)
+                .isEnd(false)
+                .copyCount(0)
+                .startDt(startDt)
+                .endDt(endDt)
+                .createDt(startDt)
+                .updateDt(startDt).build();
+        memberGoal.setTodoTotal(todoTotal);
         return memberGoal;
     }
 
     public void increaseCopyCount(String uid, Long goalId) {
-        MemberGoal memberGoal = memberGoalRepository.findById(new MemberGoalPK(uid, goalId))
-                .orElseThrow(() -> new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND));
+        if (!memberGoalRepository.existsById(new MemberGoalPK(uid, goalId)))
+            throw new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND);
 
-        memberGoal.increaseCopyCount();
-        memberGoalRepository.save(memberGoal);
+        writeBehindCounter.increaseCopyCount(uid, goalId);
     }
 
     public Boolean isAlreadyExistJoin(String uid, Long goalId) {
@@ -108,12 +139,41 @@ public class MemberGoalService {
         return convertPage2DTO(memberGoals);
     }
 
+    @Transactional
+    public SliceResponse<GoalJoinMemberDTO> getGoalJoinSliceByUid(String uid, boolean isEnd, Pageable pageable, boolean withTotal) {
+        LocalDateTime now = LocalDateTime.now();
+        Slice<MemberGoal> memberGoals = isEnd
+                ? memberGoalRepository.findEndedSliceByUid(uid, now, pageable)
+                : memberGoalRepository.findSliceByUidAndEndDtIsAfterAndIsEndFalse(uid, now, pageable);
+
+        Long approximateTotal = !withTotal ? null
+                : approximateCountCache.get("membergoal:" + (isEnd ? "ended:" : "active:") + uid, () -> isEnd
+                        ? memberGoalRepository.countEndedByUid(uid, now)
+                        : memberGoalRepository.countByUidAndEndDtIsAfterAndIsEndFalse(uid, now));
+
+        return SliceResponse.of(
+                new SliceImpl<>(toGoalJoinMemberDTOs(memberGoals.getContent()), memberGoals.getPageable(), memberGoals.hasNext()),
+                approximateTotal);
+    }
+
     private Page<GoalJoinMemberDTO> convertPage2DTO(Page<MemberGoal> origin) {
-        return new PageImpl<>(
-                origin.getContent().stream()
-                        .map(mg -> GoalJoinMemberDTO.of(mg, goalService.findGoalById(mg.getGoalId())))
-                        .collect(Collectors.toList()),
-                origin.getPageable(), origin.getTotalElements());
+        return new PageImpl<>(toGoalJoinMemberDTOs(origin.getContent()), origin.getPageable(), origin.getTotalElements());
+    }
+
+    private List<GoalJoinMemberDTO> toGoalJoinMemberDTOs(List<MemberGoal> memberGoals) {
+        Map<Long, Goal> goals = goalService.findGoalMapByIds(memberGoals.stream()
+                .map(MemberGoal::getGoalId)
+                .collect(Collectors.toSet()));
+
+        return memberGoals.stream()
+                .map(mg -> {
+                    Goal goal = goals.get(mg.getGoalId());
+                    if (goal == null)
+                        throw new GoalNotFoundException(ErrorEnum.GOAL_NOT_FOUND);
+                    mg.setPendingCopyCount(writeBehindCounter.pendingCopyCount(mg.getUid(), mg.getGoalId()));
+                    return GoalJoinMemberDTO.of(mg, goal);
+                })
+                .collect(Collectors.toList());
     }
 
     public MemberPageDTO getMembersAllByGoalId(Long goalId, Pageable pageable) {
@@ -133,7 +193,22 @@ public class MemberGoalService {
     }
 
     public Page<GoalJoinTodoDto> getJoinTodoListByGoalId(Long goalId, Pageable pageable) {
-        return memberGoalRepository.getJoinTodoListByGoalId(goalId, pageable);
+        Page<GoalJoinTodoDto> joinTodos = memberGoalRepository.getJoinTodoListByGoalId(goalId, pageable);
+        joinTodos.forEach(this::mergePendingCopyCount);
+        return joinTodos;
+    }
+
+    public SliceResponse<GoalJoinTodoDto> getJoinTodoSliceByGoalId(Long goalId, Pageable pageable, boolean withTotal) {
+        Long approximateTotal = withTotal
+                ? approximateCountCache.get("membergoal:todo:" + goalId, () -> memberGoalRepository.countMemberGoalByGoalId(goalId))
+                : null;
+        Slice<GoalJoinTodoDto> joinTodos = memberGoalRepository.getJoinTodoSliceByGoalId(goalId, pageable);
+        joinTodos.forEach(this::mergePendingCopyCount);
+        return SliceResponse.of(joinTodos, approximateTotal);
+    }
+
+    private void mergePendingCopyCount(GoalJoinTodoDto joinTodo) {
+        joinTodo.setCopyCount(joinTodo.getCopyCount() + writeBehindCounter.pendingCopyCount(joinTodo.getUid(), joinTodo.getGoalId()));
     }
 
     public MemberGoal againJoin(UpdateJoinRequestDTO updateGoalJoinRequest, String uid, Long goalId) {
@@ -166,8 +241,10 @@ public class MemberGoalService {
     }
 
     public MemberGoal getGoalJoinByUidAndGoalId(String uid, Long goalId) {
-        return memberGoalRepository.findById(new MemberGoalPK(uid, goalId))
+        MemberGoal memberGoal = memberGoalRepository.findById(new MemberGoalPK(uid, goalId))
                 .orElseThrow(() -> new GoalNotFoundException(ErrorEnum.GOAL_JOIN_NOT_FOUND));
+        memberGoal.setPendingCopyCount(writeBehindCounter.pendingCopyCount(uid, goalId));
+        return memberGoal;
     }
 
     public GoalRole getGoalRole(String uid, Long goalId) {
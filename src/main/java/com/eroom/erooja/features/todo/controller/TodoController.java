@@ -3,6 +3,8 @@ package com.eroom.erooja.features.todo.controller;
 import com.eroom.erooja.domain.model.Todo;
 import com.eroom.erooja.features.auth.jwt.JwtTokenProvider;
 import com.eroom.erooja.features.todo.dto.ChangedTodoRequestDTO;
+import com.eroom.erooja.features.todo.dto.ChangedTodoStatesRequestDTO;
+import com.eroom.erooja.features.todo.dto.MoveTodoRequestDTO;
 import com.eroom.erooja.features.todo.dto.UpdateTodoDTO;
 import com.eroom.erooja.features.todo.dto.UpdateTodoRequestDTO;
 import com.eroom.erooja.features.todo.service.TodoService;
@@ -33,7 +35,13 @@ public class TodoController {
     @GetMapping
     public ResponseEntity getTodoListByUidAndGoalId(Pageable pageable,
                                                     @RequestParam(required = true) String uid,
-                                                    @RequestParam(required = true) Long goalId) {
+                                                    @RequestParam(required = true) Long goalId,
+                                                    @RequestParam(defaultValue = "false") boolean slice,
+                                                    @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (slice) {
+            return new ResponseEntity(todoService.getTodoSliceByGoalIdAndUid(pageable, goalId, uid, withTotal), HttpStatus.OK);
+        }
+
         Page<Todo> todoPage = todoService.getTodoListByGoalIdAndUid(pageable, goalId, uid);
         return new ResponseEntity(todoPage, HttpStatus.OK);
     }
@@ -53,6 +61,35 @@ public class TodoController {
         return new ResponseEntity(changedTodo, HttpStatus.OK);
     }
 
+    @PutMapping("/state")
+    public ResponseEntity updateTodoStates(@RequestBody @Valid ChangedTodoStatesRequestDTO changedTodoStatesRequest,
+                                           @RequestHeader(name = HttpHeaders.AUTHORIZATION) String header,
+                                           Errors errors) {
+        if (errors.hasErrors()) {
+            logger.error("error : {}", errors.getFieldError().getDefaultMessage());
+            return new ResponseEntity(errors.getFieldError().getDefaultMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        String uid = jwtTokenProvider.getUidFromHeader(header);
+        List<Todo> changedTodoList = todoService.changeEndStates(uid, changedTodoStatesRequest.getTodoList());
+        return new ResponseEntity(changedTodoList, HttpStatus.OK);
+    }
+
+    @PutMapping("/{todoId}/position")
+    public ResponseEntity moveTodo(@RequestBody @Valid MoveTodoRequestDTO moveTodoRequest,
+                                   @PathVariable Long todoId,
+                                   @RequestHeader(name = HttpHeaders.AUTHORIZATION) String header,
+                                   Errors errors) {
+        if (errors.hasErrors()) {
+            logger.error("error : {}", errors.getFieldError().getDefaultMessage());
+            return new ResponseEntity(errors.getFieldError().getDefaultMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        String uid = jwtTokenProvider.getUidFromHeader(header);
+        Todo movedTodo = todoService.moveTodo(uid, todoId, moveTodoRequest.getPosition());
+        return new ResponseEntity(movedTodo, HttpStatus.OK);
+    }
+
     @PutMapping
     public ResponseEntity updateTodoList(@RequestBody @Valid UpdateTodoRequestDTO updateTodoRequest,
                                          @RequestHeader(name = HttpHeaders.AUTHORIZATION) String header,
@@ -0,0 +1,17 @@
+package com.eroom.erooja.features.todo.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ChangedTodoStateDTO {
+    @NotNull(message = "todoId를 전송해야합니다.")
+    private Long todoId;
+    @NotNull(message = "변경하고자하는 상태를 전송하지 않았습니다.")
+    private Boolean isEnd;
+}
@@ -0,0 +1,20 @@
+package com.eroom.erooja.features.todo.dto;
+
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ChangedTodoStatesRequestDTO {
+    @Valid
+    @NotEmpty(message = "변경할 할일을 전송해야합니다.")
+    @Size(max = 100, message = "한 번에 변경할 수 있는 할일은 100개까지입니다.")
+    private List<ChangedTodoStateDTO> todoList;
+}
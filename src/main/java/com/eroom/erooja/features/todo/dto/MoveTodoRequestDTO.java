@@ -0,0 +1,16 @@
+package com.eroom.erooja.features.todo.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MoveTodoRequestDTO {
+    /* 옮긴 뒤 목록에서의 위치 (0부터) */
+    @NotNull(message = "옮길 위치를 전송해야합니다.")
+    private Integer position;
+}
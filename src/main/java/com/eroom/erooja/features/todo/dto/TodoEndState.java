@@ -0,0 +1,8 @@
+package com.eroom.erooja.features.todo.dto;
+
+public interface TodoEndState {
+    Long getId();
+    String getUid();
+    Long getGoalId();
+    Boolean getIsEnd();
+}
@@ -1,16 +1,49 @@
 package com.eroom.erooja.features.todo.repository;
 
 import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.todo.dto.TodoEndState;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
     Page<Todo> getTodoListByGoalIdAndUid(Pageable pageable, Long goalId, String uid);
     List<Todo> findAllByMemberGoal_GoalIdAndMemberGoal_Uid(Long goalId, String uid);
-    void deleteAllByMemberGoal_GoalIdAndMemberGoal_Uid(Long goalId, String uid);
+    List<Todo> findAllByMemberGoal_GoalIdAndMemberGoal_UidOrderByPriorityAscIdAsc(Long goalId, String uid);
+    long countByMemberGoal_GoalIdAndMemberGoal_Uid(Long goalId, String uid);
+
+    /* 할 일을 읽지 않고 한 문장으로 지운다. 영속성 컨텍스트에 올라온 할 일은 갱신되지 않는다. */
+    @Modifying
+    @Query(value = "DELETE FROM todo WHERE uid = :uid AND goal_id = :goalId", nativeQuery = true)
+    int deleteAllInBulk(@Param("goalId") Long goalId, @Param("uid") String uid);
+
+    @Query("SELECT t.id AS id, t.memberGoal.uid AS uid, t.memberGoal.goalId AS goalId, t.isEnd AS isEnd " +
+            "FROM Todo t WHERE t.id IN :ids")
+    List<TodoEndState> findEndStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* 이미 같은 상태인 할 일은 건너뛰므로, 바뀐 행 수를 그대로 완료 수 증감에 쓸 수 있다. */
+    @Modifying
+    @Query("UPDATE Todo t SET t.isEnd = :isEnd, t.updateDt = :updateDt WHERE t.id IN :ids AND t.isEnd <> :isEnd")
+    int updateEndStateInBulk(@Param("ids") Collection<Long> ids, @Param("isEnd") Boolean isEnd,
+                             @Param("updateDt") LocalDateTime updateDt);
+
+    /* 소유자의 할 일을 읽지 않고 한 문장으로 복사한다. id 는 firstId 부터 순서대로 매기고, 완료 여부는 새로 시작한다. */
+    @Modifying
+    @Query(value = "INSERT INTO todo (id, content, is_end, priority, uid, goal_id, create_dt, update_dt) " +
+            "SELECT :firstId + ROW_NUMBER() OVER (ORDER BY t.priority, t.id) - 1, t.content, false, t.priority, " +
+            ":uid, t.goal_id, :createDt, :createDt " +
+            "FROM todo t WHERE t.uid = :ownerUid AND t.goal_id = :goalId " +
+            "ORDER BY t.priority, t.id LIMIT :maxCount", nativeQuery = true)
+    int copyAllInBulk(@Param("ownerUid") String ownerUid, @Param("uid") String uid, @Param("goalId") Long goalId,
+                      @Param("firstId") Long firstId, @Param("maxCount") int maxCount,
+                      @Param("createDt") LocalDateTime createDt);
 }
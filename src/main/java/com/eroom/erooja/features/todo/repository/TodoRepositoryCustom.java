@@ -4,7 +4,10 @@ import com.eroom.erooja.domain.model.Todo;
 import com.eroom.erooja.features.membergoal.dto.GoalJoinTodoDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface TodoRepositoryCustom {
     Page<Todo> getTodoListByGoalIdAndUid(Pageable pageable, Long goalId, String uid);
+
+    Slice<Todo> getTodoSliceByGoalIdAndUid(Pageable pageable, Long goalId, String uid);
 }
@@ -16,6 +16,8 @@ import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,12 +37,27 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
     }
 
     public Page<Todo> getTodoListByGoalIdAndUid(Pageable pageable, Long goalId, String uid){
+        QueryResults<Todo> results = todoListQuery(pageable, goalId, uid)
+                .limit(pageable.getPageSize())
+                .fetchResults();
+        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
+    }
+
+    public Slice<Todo> getTodoSliceByGoalIdAndUid(Pageable pageable, Long goalId, String uid){
+        List<Todo> results = todoListQuery(pageable, goalId, uid)
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
+    }
+
+    private JPAQuery<Todo> todoListQuery(Pageable pageable, Long goalId, String uid) {
         JPAQuery<Todo> query = queryFactory
                 .selectFrom(todo)
                 .where(todo.memberGoal.goalId.eq(goalId),
                         todo.memberGoal.uid.eq(uid))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .offset(pageable.getOffset());
 
         for (Sort.Order o : pageable.getSort()) {
             PathBuilder pathBuilder = new PathBuilder(todo.getType(),
@@ -49,7 +66,6 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
                     pathBuilder.get(o.getProperty())));
         }
 
-        QueryResults<Todo> results = query.fetchResults();
-        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
+        return query;
     }
 }
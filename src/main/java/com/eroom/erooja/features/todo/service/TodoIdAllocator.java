@@ -0,0 +1,43 @@
+package com.eroom.erooja.features.todo.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * INSERT ... SELECT 처럼 엔티티를 거치지 않고 할 일을 넣을 때 쓸 연속된 id 구간을 hibernate_sequence 에서 받는다.
+ * pooled_id 생성기와 같은 방식(읽은 next_val 부터 사용, next_val 을 사용한 만큼 올림)이라 서로 구간이 겹치지 않고,
+ * 채번 행을 잡고 있지 않도록 별도 트랜잭션에서 바로 커밋한다.
+ */
+@Component
+public class TodoIdAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public TodoIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 받은 구간의 첫 id. [첫 id, 첫 id + count) 를 쓸 수 있다.
+     */
+    public long allocate(int count) {
+        Long firstId;
+        do {
+            firstId = requiresNewTransaction.execute(status -> tryAllocate(count));
+        } while (firstId == null);
+        return firstId;
+    }
+
+    /* 다른 생성기가 먼저 올렸으면 null 을 돌려주고 다시 읽는다. */
+    private Long tryAllocate(int count) {
+        Long nextVal = jdbcTemplate.queryForObject("SELECT next_val FROM hibernate_sequence", Long.class);
+        int updated = jdbcTemplate.update("UPDATE hibernate_sequence SET next_val = ? WHERE next_val = ?",
+                nextVal + count, nextVal);
+        return updated == 1 ? nextVal : null;
+    }
+}
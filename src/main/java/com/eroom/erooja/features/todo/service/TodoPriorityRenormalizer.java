@@ -0,0 +1,80 @@
+package com.eroom.erooja.features.todo.service;
+
+import com.eroom.erooja.common.transaction.AfterCommit;
+import com.eroom.erooja.domain.model.MemberGoalPK;
+import com.eroom.erooja.domain.model.Todo;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 옮기다가 이웃 우선순위 사이의 빈 값이 다 찬 할 일 목록을 모았다가, 주기적으로 Todo.PRIORITY_GAP 간격으로 다시 벌린다.
+ * 간격이 남아 있는 목록은 건드리지 않으므로 평소의 할 일 이동은 한 행만 바꾼다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TodoPriorityRenormalizer {
+    private static final Logger logger = LoggerFactory.getLogger(TodoPriorityRenormalizer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<MemberGoalPK> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 트랜잭션이 커밋된 뒤 다음 주기에 다시 벌릴 목록으로 등록한다.
+     */
+    public void request(String uid, Long goalId) {
+        MemberGoalPK key = new MemberGoalPK(uid, goalId);
+        AfterCommit.run(() -> pending.add(key));
+    }
+
+    public boolean isPending(String uid, Long goalId) {
+        return pending.contains(new MemberGoalPK(uid, goalId));
+    }
+
+    /**
+     * @return 이번에 다시 벌린 목록 수
+     */
+    @Scheduled(fixedDelayString = "${todoProperties.renormalizeIntervalMillis:1000}")
+    public synchronized int renormalizePending() {
+        int renormalized = 0;
+        for (MemberGoalPK key : new ArrayList<>(pending)) {
+            pending.remove(key);
+            try {
+                transactionTemplate.execute(status -> renormalize(key.getUid(), key.getGoalId()));
+                renormalized++;
+            } catch (DataAccessException e) {
+                logger.error("할 일 우선순위 재정렬 실패, 다음 주기에 다시 시도합니다. - uid : {} / goalId : {}, {}",
+                        key.getUid(), key.getGoalId(), e.getMessage());
+                pending.add(key);
+            }
+        }
+        return renormalized;
+    }
+
+    /*
+     * 현재 순서를 유지한 채 우선순위를 0, GAP, 2 * GAP ... 로 다시 매긴다.
+     * 읽은 행을 FOR UPDATE 로 잡아, 읽고 쓰는 사이에 커밋된 할 일 이동을 예전 순서로 덮어쓰지 않는다.
+     */
+    private int[] renormalize(String uid, Long goalId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM todo WHERE uid = ? AND goal_id = ? ORDER BY priority, id FOR UPDATE", Long.class, uid, goalId);
+
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            batchArgs.add(new Object[]{i * Todo.PRIORITY_GAP, ids.get(i)});
+        }
+        return jdbcTemplate.batchUpdate("UPDATE todo SET priority = ? WHERE id = ?", batchArgs);
+    }
+}
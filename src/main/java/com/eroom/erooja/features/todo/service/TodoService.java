@@ -1,10 +1,16 @@
 package com.eroom.erooja.features.todo.service;
 
+import com.eroom.erooja.common.cache.ApproximateCountCache;
 import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.dto.SliceResponse;
 import com.eroom.erooja.common.exception.EroojaException;
 import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.domain.model.MemberGoalPK;
 import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
 import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import com.eroom.erooja.features.todo.dto.ChangedTodoStateDTO;
+import com.eroom.erooja.features.todo.dto.TodoEndState;
 import com.eroom.erooja.features.todo.dto.UpdateTodoDTO;
 import com.eroom.erooja.features.todo.dto.UpdateTodoRequestDTO;
 import com.eroom.erooja.features.todo.repository.TodoRepository;
@@ -17,7 +23,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.eroom.erooja.common.constants.ErrorEnum.TODO_PRIORITY_NOT_CORRECT;
@@ -28,20 +42,60 @@ public class TodoService {
     private static final Logger logger = LoggerFactory.getLogger(TodoService.class);
     private final TodoRepository todoRepository;
     private final ModelMapper modelMapper;
+    private final ApproximateCountCache approximateCountCache;
+    private final MemberGoalRepository memberGoalRepository;
+    private final EntityManager em;
+    private final TodoPriorityRenormalizer todoPriorityRenormalizer;
+    private final TodoIdAllocator todoIdAllocator;
 
+    /**
+     * 할 일을 배치로 넣고 참여의 할 일 수를 늘린다. 참여 행은 getReference 로 참조만 하므로 다시 읽지 않는다.
+     */
+    @Transactional
     public List<Todo> addTodo(String uid, Long goalId, List<AddTodoDTO> todoDTOList) {
-        List<Todo> todoList = convertAddDTO2Todo(uid, goalId, todoDTOList);
+        List<Todo> todoList = convertAddDTO2Todo(em.getReference(MemberGoal.class, new MemberGoalPK(uid, goalId)), todoDTOList);
 
         if (checkPriorityIsNotCorrect(todoList))
             throw new EroojaException(TODO_PRIORITY_NOT_CORRECT);
+        spreadPriorities(todoList);
+
+        List<Todo> saved = todoRepository.saveAll(todoList);
+        memberGoalRepository.changeTodoProgress(uid, goalId, saved.size(), countDone(saved));
+        return saved;
+    }
+
+    /**
+     * 다른 참여자(ownerUid)의 할 일을 서버에서 바로 복사한다. id 구간을 미리 받아 INSERT ... SELECT 한 번으로 넣고,
+     * 그 사이 소유자의 할 일이 늘었으면 받은 구간만큼만 복사한다. 소유자의 할 일이 없으면 빈 참여가 되지 않도록 거절한다.
+     * @return 복사한 할 일 수
+     */
+    @Transactional
+    public int copyTodo(String ownerUid, String uid, Long goalId) {
+        int ownerTodoCount = (int) todoRepository.countByMemberGoal_GoalIdAndMemberGoal_Uid(goalId, ownerUid);
+        if (ownerTodoCount == 0)
+            throw new EroojaException(ErrorEnum.GOAL_JOIN_COPY_EMPTY_TODO);
+
+        long firstId = todoIdAllocator.allocate(ownerTodoCount);
+        int copied = todoRepository.copyAllInBulk(ownerUid, uid, goalId, firstId, ownerTodoCount, LocalDateTime.now());
+        memberGoalRepository.changeTodoProgress(uid, goalId, copied, 0);
+        return copied;
+    }
 
-        return todoRepository.saveAll(todoList);
+    /**
+     * 요청 순서대로 저장용 간격(Todo.PRIORITY_GAP)으로 우선순위를 다시 매긴다. checkPriorityIsNotCorrect 를 통과한 목록에만 쓴다.
+     */
+    private static void spreadPriorities(List<Todo> todoList) {
+        for (int i = 0; i < todoList.size(); i++) {
+            todoList.get(i).setPriority(i * Todo.PRIORITY_GAP);
+        }
     }
 
+    /**
+     * 우선순위가 앞에서부터 커지지 않으면 true. 조회한 우선순위(0, 1024 ...)를 그대로 보내도, 0, 1, 2 ... 로 보내도 통과한다.
+     */
     public Boolean checkPriorityIsNotCorrect(List<Todo> todoList) {
-        int checkCount = 0;
-        for (Todo todo : todoList) {
-            if (todo.getPriority() != checkCount++)
+        for (int i = 1; i < todoList.size(); i++) {
+            if (todoList.get(i).getPriority() <= todoList.get(i - 1).getPriority())
                 return true;
         }
         return false;
@@ -51,11 +105,23 @@ public class TodoService {
         return todoRepository.getTodoListByGoalIdAndUid(pageable, goalId, uid);
     }
 
+    public SliceResponse<Todo> getTodoSliceByGoalIdAndUid(Pageable pageable, Long goalId, String uid, boolean withTotal) {
+        Long approximateTotal = withTotal
+                ? approximateCountCache.get("todo:" + goalId + ":" + uid,
+                        () -> todoRepository.countByMemberGoal_GoalIdAndMemberGoal_Uid(goalId, uid))
+                : null;
+        return SliceResponse.of(todoRepository.getTodoSliceByGoalIdAndUid(pageable, goalId, uid), approximateTotal);
+    }
+
     public List<Todo> convertAddDTO2Todo(String uid, Long goalId, List<AddTodoDTO> todoDTOList) {
+        return convertAddDTO2Todo(MemberGoal.builder().uid(uid).goalId(goalId).build(), todoDTOList);
+    }
+
+    private List<Todo> convertAddDTO2Todo(MemberGoal memberGoal, List<AddTodoDTO> todoDTOList) {
         return todoDTOList.stream()
                 .map(todoDTO -> {
                     Todo todo = modelMapper.map(todoDTO, Todo.class);
-                    todo.setMemberGoal(MemberGoal.builder().uid(uid).goalId(goalId).build());
+                    todo.setMemberGoal(memberGoal);
                     return todo;
                 }).collect(Collectors.toList());
     }
@@ -70,32 +136,167 @@ public class TodoService {
             throw new EroojaException(ErrorEnum.TODO_NOT_OWNER);
         }
 
+        boolean wasEnd = Boolean.TRUE.equals(todo.getIsEnd());
+        boolean isEnd = Boolean.TRUE.equals(changedIsEnd);
+        if (wasEnd != isEnd)
+            memberGoalRepository.changeTodoProgress(uid, todo.getMemberGoal().getGoalId(), 0, isEnd ? 1 : -1);
+
         todo.setIsEnd(changedIsEnd);
         return todoRepository.save(todo);
     }
 
+    /**
+     * 여러 할 일의 완료 여부를 한 트랜잭션에서 바꾼다. 존재와 소유는 IN 쿼리 한 번으로 확인하고,
+     * 참여별로 완료/미완료 상태마다 UPDATE 한 번씩 실행한다. 같은 할 일이 여러 번 오면 마지막 상태를 쓴다.
+     */
+    @Transactional
+    public List<Todo> changeEndStates(String uid, List<ChangedTodoStateDTO> changedStates) {
+        Map<Long, Boolean> isEndById = new LinkedHashMap<>();
+        changedStates.forEach(state -> isEndById.put(state.getTodoId(), Boolean.TRUE.equals(state.getIsEnd())));
+
+        List<TodoEndState> endStates = todoRepository.findEndStatesByIdIn(isEndById.keySet());
+        if (endStates.size() != isEndById.size())
+            throw new EroojaException(ErrorEnum.TODO_NOT_FOUND);
+
+        Map<Long, Map<Boolean, List<Long>>> changedIdsByGoalId = new HashMap<>();
+        for (TodoEndState endState : endStates) {
+            if (!endState.getUid().equals(uid)) {
+                logger.error("할일이 자신의 것이 아닙니다 / 요청uid : {} / 주인uid : {}", uid, endState.getUid());
+                throw new EroojaException(ErrorEnum.TODO_NOT_OWNER);
+            }
+
+            Boolean isEnd = isEndById.get(endState.getId());
+            if (!isEnd.equals(Boolean.TRUE.equals(endState.getIsEnd()))) {
+                changedIdsByGoalId.computeIfAbsent(endState.getGoalId(), goalId -> new HashMap<>())
+                        .computeIfAbsent(isEnd, state -> new ArrayList<>())
+                        .add(endState.getId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        changedIdsByGoalId.forEach((goalId, idsByState) -> {
+            int doneDelta = 0;
+            for (Map.Entry<Boolean, List<Long>> entry : idsByState.entrySet()) {
+                int changed = todoRepository.updateEndStateInBulk(entry.getValue(), entry.getKey(), now);
+                doneDelta += entry.getKey() ? changed : -changed;
+            }
+            if (doneDelta != 0)
+                memberGoalRepository.changeTodoProgress(uid, goalId, 0, doneDelta);
+        });
+
+        return todoRepository.findAllById(isEndById.keySet());
+    }
+
+    /**
+     * 할 일을 목록의 position 번째(0부터)로 옮긴다. 옮긴 뒤 앞뒤 이웃의 우선순위 사이 값을 주므로 이 할 일 한 행만 바뀐다.
+     * 이웃 사이에 빈 값이 없으면 그 자리에서 목록 전체를 다시 벌리고, 옮긴 뒤 빈 값이 다 찼으면 백그라운드 재정렬을 요청한다.
+     */
+    @Transactional
+    public Todo moveTodo(String uid, Long todoId, int position) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new EroojaException(ErrorEnum.TODO_NOT_FOUND));
+
+        if (!(todo.validTodoIsOwn(uid))) {
+            logger.error("할일이 자신의 것이 아닙니다 / 요청uid : {} / 주인uid : {}", uid, todo.getUid());
+            throw new EroojaException(ErrorEnum.TODO_NOT_OWNER);
+        }
+
+        Long goalId = todo.getMemberGoal().getGoalId();
+        List<Todo> todoList = todoRepository.findAllByMemberGoal_GoalIdAndMemberGoal_UidOrderByPriorityAscIdAsc(goalId, uid);
+        todoList.remove(todo);
+        if (position < 0 || position > todoList.size())
+            throw new EroojaException(ErrorEnum.TODO_POSITION_NOT_CORRECT);
+
+        Integer prev = position > 0 ? todoList.get(position - 1).getPriority() : null;
+        Integer next = position < todoList.size() ? todoList.get(position).getPriority() : null;
+        Long priority = priorityBetween(prev, next);
+        if (priority == null) {
+            logger.info("할 일 우선순위 간격 소진, 목록을 다시 벌립니다. - uid : {} / goalId : {}", uid, goalId);
+            todoList.add(position, todo);
+            for (int i = 0; i < todoList.size(); i++) {
+                todoList.get(i).setPriority(i * Todo.PRIORITY_GAP);
+            }
+            return todo;
+        }
+
+        todo.setPriority(priority.intValue());
+        if ((prev != null && priority - prev <= 1) || (next != null && next - priority <= 1))
+            todoPriorityRenormalizer.request(uid, goalId);
+
+        return todo;
+    }
+
+    /* 두 이웃 사이의 우선순위, 끝으로 옮기면 한 간격 바깥 값. 들어갈 정수가 없으면 null */
+    private static Long priorityBetween(Integer prev, Integer next) {
+        long priority;
+        if (prev == null && next == null) {
+            priority = 0L;
+        } else if (prev == null) {
+            priority = (long) next - Todo.PRIORITY_GAP;
+        } else if (next == null) {
+            priority = (long) prev + Todo.PRIORITY_GAP;
+        } else if ((long) next - prev >= 2) {
+            priority = prev + ((long) next - prev) / 2;
+        } else {
+            return null;
+        }
+
+        return priority < Integer.MIN_VALUE || priority > Integer.MAX_VALUE ? null : priority;
+    }
+
+    /**
+     * 요청 목록을 할 일 id 로 기존 할 일과 맞춰, 바뀐 할 일만 수정하고 없는 할 일만 넣고 빠진 할 일만 지운다.
+     * 수정과 추가는 flush 시 JDBC 배치로, 삭제는 한 문장으로 나가며 남은 할 일의 id 는 그대로 유지된다.
+     * 이 참여에 없는 id 는 새 할 일로 넣는다.
+     */
     @Transactional
     public List<Todo> updateTodoList(String uid, UpdateTodoRequestDTO updateTodoRequest) {
-        List<Todo> todoList = convertUpdateDTO2Todo(uid, updateTodoRequest.getGoalId(), updateTodoRequest.getTodoList());
+        Long goalId = updateTodoRequest.getGoalId();
+        Map<Long, Todo> existingById = todoRepository.findAllByMemberGoal_GoalIdAndMemberGoal_Uid(goalId, uid).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        int totalBefore = existingById.size();
+        int doneBefore = countDone(existingById.values());
+
+        MemberGoal memberGoal = em.getReference(MemberGoal.class, new MemberGoalPK(uid, goalId));
+        List<Todo> todoList = new ArrayList<>();
+        List<Todo> newTodoList = new ArrayList<>();
+        for (UpdateTodoDTO updateTodoDTO : updateTodoRequest.getTodoList()) {
+            Todo todo = updateTodoDTO.getTodoId() == null ? null : existingById.remove(updateTodoDTO.getTodoId());
+            if (todo == null) {
+                todo = Todo.of(updateTodoDTO);
+                todo.setMemberGoal(memberGoal);
+                newTodoList.add(todo);
+            } else {
+                todo.setContent(updateTodoDTO.getContent());
+                todo.setPriority(updateTodoDTO.getPriority());
+                todo.setIsEnd(updateTodoDTO.getIsEnd());
+            }
+            todoList.add(todo);
+        }
+
         if (checkPriorityIsNotCorrect(todoList))
             throw new EroojaException(TODO_PRIORITY_NOT_CORRECT);
+        spreadPriorities(todoList);
 
-        deleteTodoAll(updateTodoRequest.getGoalId(), uid);
+        if (!existingById.isEmpty())
+            todoRepository.deleteInBatch(existingById.values());
+        todoRepository.saveAll(newTodoList);
 
-        return todoRepository.saveAll(todoList);
+        int totalDelta = todoList.size() - totalBefore;
+        int doneDelta = countDone(todoList) - doneBefore;
+        if (totalDelta != 0 || doneDelta != 0)
+            memberGoalRepository.changeTodoProgress(uid, goalId, totalDelta, doneDelta);
+
+        return todoList;
     }
 
+    @Transactional
     public void deleteTodoAll(Long goalId, String uid){
-        todoRepository.deleteAllByMemberGoal_GoalIdAndMemberGoal_Uid(goalId, uid);
+        todoRepository.deleteAllInBulk(goalId, uid);
+        memberGoalRepository.clearTodoProgress(uid, goalId);
     }
 
-    public List<Todo> convertUpdateDTO2Todo(String uid, Long goalId, List<UpdateTodoDTO> updateTodoDTOList) {
-        return updateTodoDTOList.stream()
-                .map(updateTodoDTO -> {
-                            Todo todo = Todo.of(updateTodoDTO);
-                            todo.setMemberGoal(MemberGoal.builder().uid(uid).goalId(goalId).build());
-                            return todo;
-                        }
-                ).collect(Collectors.toList());
+    private static int countDone(Collection<Todo> todoList) {
+        return (int) todoList.stream().map(Todo::getIsEnd).filter(Boolean.TRUE::equals).count();
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class MemberGoalInspectTask {
@@ -37,16 +38,15 @@ public class MemberGoalInspectTask {
 
     private void alarmEndedMemberGoal() {
         List<MemberGoal> memberGoals = memberGoalService.getAllEndedYesterday();
-        memberGoals.forEach((memberGoal) -> {
-            alarmService.insertMessage(InsertMessageDTO.builder()
-                    .messageType(AlarmType.GOAL_TERMINATED)
-                    .receiverUid(memberGoal.getUid())
-                    .goalId(memberGoal.getGoalId())
-                    .title(AlarmConstant.TITLE_GOAL_TERMINATED)
-                    .isChecked(false)
-                    .content(memberGoal.getGoal().getTitle()).build()
-            );
-        });
+        alarmService.insertMessages(memberGoals.stream()
+                .map(memberGoal -> InsertMessageDTO.builder()
+                        .messageType(AlarmType.GOAL_TERMINATED)
+                        .receiverUid(memberGoal.getUid())
+                        .goalId(memberGoal.getGoalId())
+                        .title(AlarmConstant.TITLE_GOAL_TERMINATED)
+                        .isChecked(false)
+                        .content(memberGoal.getGoal().getTitle()).build())
+                .collect(Collectors.toList()));
     }
 
     public MemberGoalInspectTask(GoalService goalService, MemberGoalService memberGoalService, AlarmService alarmService) {
@@ -0,0 +1,38 @@
+-- ddl-auto: update 로 만들어져 있던 스키마. 기존 DB 는 이 버전을 기준선(baseline)으로 기록하고 실행하지 않는다.
+
+create table alarm (id bigint not null, create_dt datetime, update_dt datetime, content varchar(255), is_checked bit not null, message_type varchar(255) not null, title varchar(255), goal_id bigint, uid varchar(255), primary key (id)) engine=InnoDB;
+
+create table goal (id bigint not null, create_dt datetime, update_dt datetime, description longtext, end_dt datetime, is_date_fixed bit not null, is_end bit not null, join_count integer not null, start_dt datetime, title varchar(255), primary key (id)) engine=InnoDB;
+
+create table goal_job_interest (id bigint not null, goal_id bigint, job_interest_id bigint, primary key (id)) engine=InnoDB;
+
+create table hibernate_sequence (next_val bigint) engine=InnoDB;
+insert into hibernate_sequence values ( 1 );
+
+create table job_interest (id bigint not null, job_interest_type varchar(255), name varchar(255), job_group_id bigint, primary key (id)) engine=InnoDB;
+
+create table member_auth (uid varchar(255) not null, create_dt datetime, update_dt datetime, auth_provider varchar(255), is_account_non_expired bit not null, is_account_non_locked bit not null, is_additional_info_needed bit not null, is_credentials_non_expired bit not null, is_enabled bit not null, is_third_party bit not null, password varchar(255), third_party_user_info longtext, primary key (uid)) engine=InnoDB;
+
+create table member_auth_authorities (member_auth_uid varchar(255) not null, authorities varchar(255)) engine=InnoDB;
+
+create table member_goal (uid varchar(255) not null, goal_id bigint not null, create_dt datetime, update_dt datetime, copy_count integer not null, end_dt datetime, is_end bit not null, role varchar(255), start_dt datetime, primary key (uid, goal_id)) engine=InnoDB;
+
+create table member_job_interest (id bigint not null, job_interest_id bigint, members_id varchar(255), primary key (id)) engine=InnoDB;
+
+create table members (create_dt datetime, update_dt datetime, image_path varchar(255), nickname varchar(255), member_auth_uid varchar(255) not null, primary key (member_auth_uid)) engine=InnoDB;
+
+create table todo (id bigint not null, create_dt datetime, update_dt datetime, content varchar(255), is_end bit not null, priority integer not null, uid varchar(255), goal_id bigint, primary key (id)) engine=InnoDB;
+
+alter table members add constraint UK_e6u9u9ypoc7oldnpxdjwcdx3 unique (nickname);
+alter table alarm add constraint FKfsa9y4xdvt0i58srmrbv37ei4 foreign key (goal_id) references goal (id);
+alter table alarm add constraint FK3p5bfeg3s64kmten7dc20qtmp foreign key (uid) references members (member_auth_uid);
+alter table goal_job_interest add constraint FKr0c3vv879fqn7emgao5m85j76 foreign key (goal_id) references goal (id);
+alter table goal_job_interest add constraint FKgxmhs2qpkeob0yrriokfqdi9v foreign key (job_interest_id) references job_interest (id);
+alter table job_interest add constraint FKcjvhfejjxrpg59kt4xxggs392 foreign key (job_group_id) references job_interest (id);
+alter table member_auth_authorities add constraint FK85mrd859ix0940ksxj5tpsti2 foreign key (member_auth_uid) references member_auth (uid);
+alter table member_goal add constraint FKokboji5el41y2w0fdv2xdex9r foreign key (goal_id) references goal (id);
+alter table member_goal add constraint FKlqfd2yoknxitj8vjwhwf80r2 foreign key (uid) references members (member_auth_uid);
+alter table member_job_interest add constraint FK3703bvcnvaxvs1k3xib7ym59c foreign key (job_interest_id) references job_interest (id);
+alter table member_job_interest add constraint FK3ertfpg51ksvhbqdhdmn4t0vu foreign key (members_id) references members (member_auth_uid);
+alter table members add constraint FKsgi07yuv2iqdfu1gf08kq7k06 foreign key (member_auth_uid) references member_auth (uid);
+alter table todo add constraint FK59x6v0qau8k3t0ykewk0etudv foreign key (uid, goal_id) references member_goal (uid, goal_id);
@@ -0,0 +1,19 @@
+-- 자주 쓰이는 조회 조건의 복합 인덱스. 동등 조건 컬럼을 앞에, 범위/정렬 컬럼을 뒤에 둔다.
+
+-- 사용자의 진행 중/종료된 목표 (uid = ? and is_end = ? and end_dt > ?)
+create index idx_member_goal_uid_is_end_end_dt on member_goal (uid, is_end, end_dt);
+
+-- 종료 예정/기간 지난 참여 목표 알림, 종료 처리 스케줄러 (is_end = false and end_dt between ? and ?)
+create index idx_member_goal_is_end_end_dt on member_goal (is_end, end_dt);
+
+-- 사용자의 알림 목록, 읽지 않은 알림 수 (uid = ? and is_checked = ? order by create_dt)
+create index idx_alarm_uid_is_checked_create_dt on alarm (uid, is_checked, create_dt);
+
+-- 목표별 할 일 목록 (uid = ? and goal_id = ? order by priority)
+create index idx_todo_uid_goal_id_priority on todo (uid, goal_id, priority);
+
+-- 기간이 지난 목표 종료 처리 (is_date_fixed = true and is_end = false and end_dt < ?)
+create index idx_goal_is_date_fixed_is_end_end_dt on goal (is_date_fixed, is_end, end_dt);
+
+-- 직무 관심사별 목표 (job_interest_id = ? 또는 IN (...) 후 goal_id 조인)
+create index idx_goal_job_interest_job_interest_id_goal_id on goal_job_interest (job_interest_id, goal_id);
@@ -0,0 +1,15 @@
+-- 참여별 할 일 수와 완료 수. 할 일을 모두 내려받지 않고 달성률을 보여주고, 참여자 목록을 달성률로 정렬한다.
+alter table member_goal add column todo_total integer not null default 0;
+alter table member_goal add column todo_done integer not null default 0;
+alter table member_goal add column checked_todo_rate double precision not null default 0;
+
+update member_goal
+set todo_total = (select count(*) from todo t where t.uid = member_goal.uid and t.goal_id = member_goal.goal_id),
+    todo_done = (select count(*) from todo t where t.uid = member_goal.uid and t.goal_id = member_goal.goal_id and t.is_end = true);
+
+update member_goal
+set checked_todo_rate = todo_done * 1.0 / todo_total
+where todo_total > 0;
+
+-- 목표 참여자 목록 달성률 정렬 (goal_id = ? order by checked_todo_rate)
+create index idx_member_goal_goal_id_checked_todo_rate on member_goal (goal_id, checked_todo_rate);
@@ -0,0 +1,2 @@
+-- 할 일 우선순위를 0, 1, 2 ... 에서 Todo.PRIORITY_GAP(1024) 간격으로 벌린다. 순서는 그대로이며, 할 일 하나를 옮길 때 이웃 사이의 값만 쓴다.
+update todo set priority = priority * 1024;
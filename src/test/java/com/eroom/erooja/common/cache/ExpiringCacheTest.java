@@ -0,0 +1,75 @@
+package com.eroom.erooja.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class ExpiringCacheTest {
+
+    @Test
+    @DisplayName("같은 키는 TTL 동안 한 번만 계산되고, 최대 크기를 넘으면 가장 오래 쓰이지 않은 키가 빠진다.")
+    public void get_loadsOnce_andEvictsLeastRecentlyUsed() {
+        //given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(2, 60_000);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.get("a", key -> loadCount.incrementAndGet());
+        cache.get("a", key -> loadCount.incrementAndGet());
+        cache.get("b", key -> loadCount.incrementAndGet());
+        cache.get("a", key -> loadCount.incrementAndGet());
+        cache.get("c", key -> loadCount.incrementAndGet());
+
+        //then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(3),
+                () -> assertThat(cache.getHitCount()).isEqualTo(2),
+                () -> assertThat(cache.getMissCount()).isEqualTo(3),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(cache.getIfPresent("b").isPresent()).isFalse(),
+                () -> assertThat(cache.getIfPresent("a").isPresent()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 값은 다시 계산한다.")
+    public void get_reloadsExpiredValue() throws Exception {
+        //given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, 1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.get("a", key -> loadCount.incrementAndGet());
+        Thread.sleep(5);
+        Integer reloaded = cache.get("a", key -> loadCount.incrementAndGet());
+
+        //then
+        assertAll(
+                () -> assertThat(reloaded).isEqualTo(2),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("계산하는 동안 무효화되면 계산한 값을 돌려주기만 하고 저장하지 않는다.")
+    public void get_invalidatedWhileLoading_notStored() {
+        //given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, 60_000);
+
+        //when
+        Integer loaded = cache.get("a", key -> {
+            cache.invalidateAll();
+            return 1;
+        });
+
+        //then
+        assertAll(
+                () -> assertThat(loaded).isEqualTo(1),
+                () -> assertThat(cache.getIfPresent("a").isPresent()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,138 @@
+package com.eroom.erooja.common.counter;
+
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.goal.service.GoalService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "counterProperties.flushIntervalMillis=3600000")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class WriteBehindCounterTest {
+    private static final int THREADS = 8;
+    private static final int JOINS_PER_THREAD = 500;
+
+    private final WriteBehindCounter writeBehindCounter;
+    private final GoalService goalService;
+    private final GoalRepository goalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private Long goalId;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindCounter.flush();
+        goalId = goalRepository.save(Goal.builder()
+                .title("카운터 목표")
+                .description("description")
+                .startDt(LocalDateTime.now())
+                .endDt(LocalDateTime.now().plusDays(1))
+                .isDateFixed(false)
+                .isEnd(false)
+                .joinCount(1).build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindCounter.clear();
+        goalRepository.deleteById(goalId);
+    }
+
+    @Test
+    @DisplayName("동시에 올린 참여 인원은 조회에 바로 합쳐지고, flush 한 번으로 빠짐없이 DB 에 반영된다.")
+    public void increaseJoinCount_concurrent_flushedOnce() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < JOINS_PER_THREAD; j++) {
+                    writeBehindCounter.increaseJoinCount(goalId);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        int persistedBeforeFlush = persistedJoinCount();
+        int mergedBeforeFlush = goalService.findGoalById(goalId).getJoinCount();
+        int flushed = writeBehindCounter.flush();
+
+        //then
+        assertAll(
+                () -> assertThat(persistedBeforeFlush).isEqualTo(1),
+                () -> assertThat(mergedBeforeFlush).isEqualTo(1 + THREADS * JOINS_PER_THREAD),
+                () -> assertThat(flushed).isEqualTo(1),
+                () -> assertThat(persistedJoinCount()).isEqualTo(1 + THREADS * JOINS_PER_THREAD),
+                () -> assertThat(writeBehindCounter.pendingJoinCount(goalId)).isZero(),
+                () -> assertThat(goalService.findGoalById(goalId).getJoinCount()).isEqualTo(1 + THREADS * JOINS_PER_THREAD)
+        );
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 올린 참여 인원은 쌓이지 않는다.")
+    public void increaseJoinCount_rollback_notCounted() {
+        //given
+        transactionTemplate.execute(status -> {
+            writeBehindCounter.increaseJoinCount(goalId);
+            status.setRollbackOnly();
+            return null;
+        });
+
+        //when
+        int pending = writeBehindCounter.pendingJoinCount(goalId);
+
+        //then
+        assertThat(pending).isZero();
+    }
+
+    @Test
+    @DisplayName("참여 인원을 반영하기 전에 읽어 둔 엔티티를 수정해도 반영된 참여 인원을 덮어쓰지 않는다.")
+    public void modifyLoadedEntity_keepsFlushedCount() {
+        //given
+        writeBehindCounter.increaseJoinCount(goalId);
+
+        //when
+        transactionTemplate.execute(status -> {
+            Goal goal = goalRepository.findById(goalId).get();
+            writeBehindCounter.flush();
+            goal.setTitle("수정된 제목");
+            return null;
+        });
+
+        //then
+        assertThat(persistedJoinCount()).isEqualTo(2);
+    }
+
+    private int persistedJoinCount() {
+        return jdbcTemplate.queryForObject("SELECT join_count FROM goal WHERE id = ?", Integer.class, goalId);
+    }
+}
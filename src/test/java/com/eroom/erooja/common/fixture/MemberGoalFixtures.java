@@ -0,0 +1,145 @@
+package com.eroom.erooja.common.fixture;
+
+import com.eroom.erooja.domain.enums.AuthProvider;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.enums.MemberRole;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.MemberAuth;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.domain.model.Members;
+import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import com.eroom.erooja.features.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 목표 참여가 필요한 테스트의 공통 준비/정리. 회원, 목표, 참여를 엔티티 빌더와 리포지토리로 만들고 지운다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberGoalFixtures {
+    private final MemberAuthRepository memberAuthRepository;
+    private final MemberRepository memberRepository;
+    private final GoalRepository goalRepository;
+    private final MemberGoalRepository memberGoalRepository;
+    private final TodoRepository todoRepository;
+    private final EntityManager em;
+
+    public Goal createGoal(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return goalRepository.save(Goal.builder()
+                .title(title)
+                .description("description")
+                .joinCount(1)
+                .isEnd(false)
+                .isDateFixed(false)
+                .startDt(now)
+                .endDt(now.plusDays(7)).build());
+    }
+
+    public void createMember(String uid) {
+        createMembers(Collections.singletonList(uid));
+    }
+
+    /**
+     * 닉네임은 uid 로 만들어 겹치지 않게 한다.
+     */
+    @Transactional
+    public void createMembers(Collection<String> uids) {
+        List<MemberAuth> memberAuths = new ArrayList<>(uids.size());
+        List<Members> members = new ArrayList<>(uids.size());
+        for (String uid : uids) {
+            Members member = Members.builder()
+                    .uid(uid)
+                    .nickname("nick_" + uid).build();
+            MemberAuth memberAuth = MemberAuth.builder()
+                    .uid(uid)
+                    .member(member)
+                    .authProvider(AuthProvider.KAKAO)
+                    .isThirdParty(true)
+                    .authorities(Collections.singleton(MemberRole.ROLE_USER))
+                    .password("").build();
+            member.setMemberAuth(memberAuth);
+            memberAuths.add(memberAuth);
+            members.add(member);
+        }
+
+        memberAuthRepository.saveAll(memberAuths);
+        memberRepository.saveAll(members);
+    }
+
+    public MemberGoal join(String uid, Long goalId, GoalRole role) {
+        return joinAll(Collections.singletonList(uid), goalId, role).get(0);
+    }
+
+    @Transactional
+    public List<MemberGoal> joinAll(Collection<String> uids, Long goalId, GoalRole role) {
+        LocalDateTime now = LocalDateTime.now();
+        return memberGoalRepository.saveAll(uids.stream()
+                .map(uid -> MemberGoal.builder()
+                        .uid(uid)
+                        .goalId(goalId)
+                        .role(role)
+                        .isEnd(false)
+                        .copyCount(0)
+                        .startDt(now)
+                        .endDt(now.plusDays(7)).build())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 참여마다 같은 내용의 할 일을 순서대로 넣는다.
+     */
+    @Transactional
+    public void addTodos(Collection<MemberGoal> memberGoals, List<String> contents) {
+        List<Todo> todos = new ArrayList<>(memberGoals.size() * contents.size());
+        for (MemberGoal memberGoal : memberGoals) {
+            for (int priority = 0; priority < contents.size(); priority++) {
+                Todo todo = Todo.builder()
+                        .content(contents.get(priority))
+                        .isEnd(false)
+                        .priority(priority).build();
+                todo.setMemberGoal(memberGoal);
+                todos.add(todo);
+            }
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    /**
+     * 목표와 그 목표의 참여, 할 일을 지운다.
+     */
+    @Transactional
+    public void deleteGoal(Long goalId) {
+        em.createQuery("DELETE FROM Todo t WHERE t.memberGoal.goalId = :goalId")
+                .setParameter("goalId", goalId)
+                .executeUpdate();
+        em.createQuery("DELETE FROM MemberGoal mg WHERE mg.goalId = :goalId")
+                .setParameter("goalId", goalId)
+                .executeUpdate();
+        em.createQuery("DELETE FROM Goal g WHERE g.id = :goalId")
+                .setParameter("goalId", goalId)
+                .executeUpdate();
+    }
+
+    /**
+     * 회원을 지운다. 회원의 참여는 deleteGoal 로 먼저 지워야 한다.
+     */
+    @Transactional
+    public void deleteMembers(Collection<String> uids) {
+        memberAuthRepository.deleteAll(memberAuthRepository.findAllById(uids));
+    }
+}
@@ -0,0 +1,162 @@
+package com.eroom.erooja.common.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 조건이 인덱스를 탈 수 있는지 마이그레이션이 만든 실제 스키마로 확인한다.
+ * 조회 메서드나 마이그레이션을 바꾸면서 인덱스가 빠지면 빌드가 실패한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EntityQueryIndexTest {
+    /* 행 수가 적은 코드성 테이블은 인덱스 없이 읽어도 된다. */
+    private static final Set<String> SMALL_TABLES = Collections.singleton("job_interest");
+
+    /* @Query, Specification 으로 작성된 주요 조회 조건. 인덱스의 앞쪽 컬럼이 순서대로 일치해야 한다. */
+    private static final List<List<String>> HOT_PREDICATES = Arrays.asList(
+            Arrays.asList("member_goal", "uid", "is_end", "end_dt"),
+            Arrays.asList("member_goal", "is_end", "end_dt"),
+            Arrays.asList("member_goal", "goal_id"),
+            Arrays.asList("member_goal", "goal_id", "checked_todo_rate"),
+            Arrays.asList("alarm", "uid", "is_checked", "create_dt"),
+            Arrays.asList("todo", "uid", "goal_id", "priority"),
+            Arrays.asList("goal", "is_date_fixed", "is_end", "end_dt"),
+            Arrays.asList("goal_job_interest", "job_interest_id", "goal_id"),
+            Arrays.asList("goal_job_interest", "goal_id")
+    );
+
+    private final ApplicationContext applicationContext;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @Test
+    @DisplayName("메서드 이름으로 만든 조회의 조건 컬럼 중 하나는 인덱스의 첫 컬럼이어야 한다.")
+    public void derivedQueries_haveLeadingIndexColumn() throws SQLException {
+        //given
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> unsupported = new ArrayList<>();
+
+        //when
+        for (Class<?> domainType : repositories) {
+            AbstractEntityPersister persister = persisterOf(domainType);
+            String table = persister.getTableName();
+            if (SMALL_TABLES.contains(table)) continue;
+
+            List<List<String>> indexes = indexesOf(table);
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+
+            for (Method method : information.getQueryMethods()) {
+                if (method.isAnnotationPresent(Query.class)) continue;
+
+                for (PartTree.OrPart orPart : new PartTree(method.getName(), domainType)) {
+                    Set<String> columns = new LinkedHashSet<>();
+                    for (Part part : orPart) {
+                        columns.addAll(columnsOf(persister, part.getProperty()));
+                    }
+
+                    boolean supported = indexes.stream().anyMatch(index -> columns.contains(index.get(0)));
+                    if (!supported) {
+                        unsupported.add(information.getRepositoryInterface().getSimpleName() + "." + method.getName()
+                                + " -> " + table + columns);
+                    }
+                }
+            }
+        }
+
+        //then
+        assertThat(unsupported).as("인덱스가 없는 조회 조건").isEmpty();
+    }
+
+    @Test
+    @DisplayName("주요 조회 조건은 같은 순서의 복합 인덱스가 있어야 한다.")
+    public void hotPredicates_haveCompositeIndex() throws SQLException {
+        //given
+        List<String> unsupported = new ArrayList<>();
+
+        //when
+        for (List<String> predicate : HOT_PREDICATES) {
+            List<String> columns = predicate.subList(1, predicate.size());
+            boolean supported = indexesOf(predicate.get(0)).stream()
+                    .anyMatch(index -> index.size() >= columns.size() && index.subList(0, columns.size()).equals(columns));
+
+            if (!supported) {
+                unsupported.add(predicate.get(0) + columns);
+            }
+        }
+
+        //then
+        assertThat(unsupported).as("복합 인덱스가 없는 조회 조건").isEmpty();
+    }
+
+    private AbstractEntityPersister persisterOf(Class<?> domainType) {
+        return (AbstractEntityPersister) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMetamodel().entityPersister(domainType);
+    }
+
+    /* 연관 엔티티의 속성 조건은 조인하므로 이 테이블 입장에서는 외래 키 컬럼이 조건이 된다. */
+    private List<String> columnsOf(AbstractEntityPersister persister, PropertyPath property) {
+        try {
+            return lowerCase(persister.getPropertyColumnNames(property.toDotPath()));
+        } catch (MappingException e) {
+            return lowerCase(persister.getPropertyColumnNames(property.getSegment()));
+        }
+    }
+
+    private List<List<String>> indexesOf(String table) throws SQLException {
+        Map<String, SortedMap<Short, String>> indexes = new HashMap<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    if (indexName == null) continue;
+
+                    indexes.computeIfAbsent(indexName, key -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), rs.getString("COLUMN_NAME").toLowerCase());
+                }
+            }
+        }
+
+        List<List<String>> indexColumns = new ArrayList<>();
+        indexes.values().forEach(columns -> indexColumns.add(new ArrayList<>(columns.values())));
+        return indexColumns;
+    }
+
+    private static List<String> lowerCase(String[] columns) {
+        List<String> lowerCased = new ArrayList<>(columns.length);
+        for (String column : columns) {
+            lowerCased.add(column.toLowerCase());
+        }
+        return lowerCased;
+    }
+}
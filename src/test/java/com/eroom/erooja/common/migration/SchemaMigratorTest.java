@@ -0,0 +1,99 @@
+package com.eroom.erooja.common.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class SchemaMigratorTest {
+    private static final String LOCATION = "classpath:db/migration";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("빈 DB 에는 모든 마이그레이션을 순서대로 적용하고, 다시 실행하면 아무것도 적용하지 않는다.")
+    public void migrate_emptyDatabase() throws IOException {
+        //given
+        SchemaMigrator schemaMigrator = new SchemaMigrator(dataSource, LOCATION, 1, true);
+        int latestVersion = schemaMigrator.findMigrations().size();
+
+        //when
+        int firstApplied = schemaMigrator.migrate();
+        int secondApplied = schemaMigrator.migrate();
+
+        //then
+        assertAll(
+                () -> assertThat(firstApplied).isEqualTo(latestVersion),
+                () -> assertThat(secondApplied).isZero(),
+                () -> assertThat(maxVersion()).isEqualTo(latestVersion),
+                () -> assertThat(jdbcTemplate.queryForObject("select next_val from hibernate_sequence", Long.class)).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("schema_version 없이 테이블이 있는 DB 는 V1 을 기준선으로 기록하고 다음 버전부터 적용한다.")
+    public void migrate_existingSchema_baseline() throws IOException, SQLException {
+        //given
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+        }
+        SchemaMigrator schemaMigrator = new SchemaMigrator(dataSource, LOCATION, 1, true);
+
+        //when
+        int applied = schemaMigrator.migrate();
+
+        //then
+        assertAll(
+                () -> assertThat(applied).isEqualTo(schemaMigrator.findMigrations().size() - 1),
+                () -> assertThat(jdbcTemplate.queryForObject(
+                        "select checksum from schema_version where version = 1", Long.class)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("이미 적용된 마이그레이션 파일이 바뀌면 시작을 막는다.")
+    public void migrate_changedScript_fail(@TempDir Path migrationDir) throws IOException {
+        //given
+        Path script = migrationDir.resolve("V1__create_sample.sql");
+        Files.write(script, "create table sample (id bigint not null, primary key (id));".getBytes(StandardCharsets.UTF_8));
+        String location = migrationDir.toUri().toString();
+        new SchemaMigrator(dataSource, location, 1, true).migrate();
+
+        Files.write(script, "create table sample (id bigint not null, name varchar(10), primary key (id));"
+                .getBytes(StandardCharsets.UTF_8));
+
+        //when & then
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, location, 1, true).migrate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V1");
+    }
+
+    private Integer maxVersion() {
+        return jdbcTemplate.queryForObject("select max(version) from schema_version", Integer.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.eroom.erooja.common.querycount;
+
+import org.junit.jupiter.api.function.Executable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 테스트 블록에서 실행된 SQL 을 세어 쿼리 예산을 검증한다.
+ * MockMvc 요청이나 서비스 호출을 감싸 사용한다.
+ *   QueryCountAssertions.assertQueryBudget(5, 1, () -> mockMvc.perform(get("/api/v1/goal")));
+ */
+public final class QueryCountAssertions {
+    private QueryCountAssertions() {
+    }
+
+    public static QueryStats countQueries(Executable executable) throws Throwable {
+        QueryStats stats = QueryCounter.start();
+        try {
+            executable.execute();
+        } finally {
+            QueryCounter.stop(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 실행된 SQL 이 maxStatements 건 이하이고, 같은 모양의 SQL 이 maxRepeat 번 넘게 반복되지 않았는지 검증한다.
+     */
+    public static QueryStats assertQueryBudget(int maxStatements, int maxRepeat, Executable executable) throws Throwable {
+        QueryStats stats = countQueries(executable);
+        assertAll(
+                () -> assertThat(stats.getStatementCount())
+                        .as("쿼리 수 (반복 쿼리 %s)", stats.getRepeatedShapes(2))
+                        .isLessThanOrEqualTo(maxStatements),
+                () -> assertThat(stats.getMaxRepeat())
+                        .as("같은 모양 쿼리 반복 수 (반복 쿼리 %s)", stats.getRepeatedShapes(2))
+                        .isLessThanOrEqualTo(maxRepeat)
+        );
+        return stats;
+    }
+}
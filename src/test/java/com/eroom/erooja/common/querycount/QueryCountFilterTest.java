@@ -0,0 +1,69 @@
+package com.eroom.erooja.common.querycount;
+
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class QueryCountFilterTest {
+    private final MockMvc mockMvc;
+    private final GoalRepository goalRepository;
+
+    private Goal goal;
+
+    @AfterEach
+    void tearDown() {
+        if (goal != null) {
+            goalRepository.deleteById(goal.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("요청마다 실행된 쿼리 수와 JDBC 시간을 응답 헤더로 내려주고, 테스트에서 쿼리 예산을 검증할 수 있다.")
+    public void goalDetail_exposesQueryCountHeaders() throws Throwable {
+        //given
+        goal = goalRepository.save(Goal.builder()
+                .title("쿼리 수 헤더")
+                .description("description")
+                .startDt(LocalDateTime.now())
+                .endDt(LocalDateTime.now().plusDays(1))
+                .isDateFixed(false)
+                .isEnd(false)
+                .joinCount(1).build());
+
+        //when
+        MvcResult[] result = new MvcResult[1];
+        QueryStats stats = QueryCountAssertions.assertQueryBudget(3, 1, () ->
+                result[0] = mockMvc.perform(get("/api/v1/goal/{goalId}", goal.getId()))
+                        .andExpect(status().isOk())
+                        .andReturn());
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isPositive(),
+                () -> assertThat(result[0].getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER))
+                        .isEqualTo(String.valueOf(stats.getStatementCount())),
+                () -> assertThat(result[0].getResponse().getHeader(QueryCountFilter.QUERY_TIME_HEADER)).isNotNull(),
+                () -> assertThat(result[0].getResponse().getHeader(QueryCountFilter.QUERY_MAX_REPEAT_HEADER)).isEqualTo("1")
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.eroom.erooja.common.querycount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class QueryStatsTest {
+    @Test
+    @DisplayName("리터럴과 IN 목록만 다른 SQL 은 같은 모양으로 센다.")
+    public void record_groupsSameShape() {
+        //given
+        QueryStats stats = new QueryStats();
+
+        //when
+        stats.record("select * from goal goal0_ where goal0_.id=1", 1_000_000);
+        stats.record("select * from goal goal0_ where goal0_.id=22", 2_000_000);
+        stats.record("SELECT * FROM goal goal0_  WHERE goal0_.id = 'x'", 0);
+        stats.record("select * from todo where id in (?, ?, ?)", 0);
+        stats.record("select * from todo where id in (?)", 0);
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isEqualTo(5),
+                () -> assertThat(stats.getJdbcMillis()).isEqualTo(3),
+                () -> assertThat(stats.getMaxRepeat()).isEqualTo(2),
+                () -> assertThat(stats.getRepeatedShapes(2)).containsKeys(
+                        "select * from goal goal0_ where goal0_.id=?",
+                        "select * from todo where id in (?)")
+        );
+    }
+}
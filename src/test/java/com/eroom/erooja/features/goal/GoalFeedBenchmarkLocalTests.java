@@ -0,0 +1,150 @@
+package com.eroom.erooja.features.goal;
+
+import com.eroom.erooja.domain.enums.JobInterestType;
+import com.eroom.erooja.domain.model.JobInterest;
+import com.eroom.erooja.domain.model.MemberAuth;
+import com.eroom.erooja.domain.model.Members;
+import com.eroom.erooja.domain.repos.JobInterestRepository;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.features.goal.service.GoalService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 관심직무 목표 피드(참여하지 않은 목표) 지연 시간 측정.
+ * 참여 목표 수가 0 ~ 1000 개인 사용자로 기존 NOT IN 조건과 NOT EXISTS 조건의 SQL 을 비교하고,
+ * 카운트 쿼리와 응답 변환을 포함한 피드 API(GoalService) 전체 지연 시간도 함께 기록한다.
+ * 기본 5만 건의 목표를 생성하며, -Dbenchmark.feedGoals=N 으로 건수를 조절할 수 있다.
+ *   mvn test -Dtest=GoalFeedBenchmarkLocalTests -Dbenchmark.feedGoals=50000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalFeedBenchmarkLocalTests {
+    private static final Logger logger = LoggerFactory.getLogger(GoalFeedBenchmarkLocalTests.class);
+
+    private static final int GOAL_COUNT = Integer.getInteger("benchmark.feedGoals", 50_000);
+    private static final int[] JOINED_COUNTS = {0, 100, 500, 1000};
+    private static final int ID_OFFSET = 20_000_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String NOT_IN_FEED_SQL = "SELECT g.id FROM goal g " +
+            "INNER JOIN goal_job_interest i ON g.id = i.goal_id AND i.job_interest_id = ? AND g.is_end = false " +
+            "AND g.id NOT IN (SELECT m.goal_id FROM member_goal m WHERE m.uid = ?) " +
+            "ORDER BY g.id LIMIT 20";
+    private static final String NOT_EXISTS_FEED_SQL = "SELECT g.id FROM goal g " +
+            "INNER JOIN goal_job_interest i ON g.id = i.goal_id AND i.job_interest_id = ? AND g.is_end = false " +
+            "AND NOT EXISTS (SELECT m.goal_id FROM member_goal m WHERE m.uid = ? AND m.goal_id = g.id) " +
+            "ORDER BY g.id LIMIT 20";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GoalService goalService;
+    private final JobInterestRepository jobInterestRepository;
+    private final MemberAuthRepository memberAuthRepository;
+    private final MemberRepository memberRepository;
+
+    private Long interestId;
+
+    @BeforeAll
+    public void setUpFeed() {
+        interestId = jobInterestRepository.save(JobInterest.builder()
+                .name("피드_벤치마크")
+                .jobInterestType(JobInterestType.JOB_INTEREST).build()).getId();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> goals = new ArrayList<>(INSERT_BATCH_SIZE);
+        List<Object[]> interests = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < GOAL_COUNT; i++) {
+            goals.add(new Object[]{ID_OFFSET + i, "피드 목표 " + i, now, now, now});
+            interests.add(new Object[]{ID_OFFSET + i, ID_OFFSET + i, interestId});
+
+            if (goals.size() == INSERT_BATCH_SIZE || i == GOAL_COUNT - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO goal (id, title, description, join_count, is_end, is_date_fixed, " +
+                                "create_dt, update_dt, start_dt) " +
+                                "VALUES (?, ?, 'description', 1, false, false, ?, ?, ?)", goals);
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO goal_job_interest (id, goal_id, job_interest_id) VALUES (?, ?, ?)", interests);
+                goals.clear();
+                interests.clear();
+            }
+        }
+
+        for (int joinedCount : JOINED_COUNTS) {
+            String uid = uidOf(joinedCount);
+            MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid(uid).build());
+            memberRepository.save(Members.builder().uid(uid).memberAuth(memberAuth).build());
+
+            /* 목표 ID 순 피드 앞쪽에 참여 목표가 몰려 있어야 제외 비용이 그대로 드러난다. */
+            List<Object[]> joined = new ArrayList<>(joinedCount);
+            for (int i = 0; i < joinedCount; i++) {
+                joined.add(new Object[]{uid, ID_OFFSET + i, now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO member_goal (uid, goal_id, role, is_end, copy_count, create_dt, update_dt) " +
+                            "VALUES (?, ?, 'PARTICIPANT', false, 0, ?, ?)", joined);
+        }
+    }
+
+    @AfterAll
+    public void tearDownFeed() {
+        jdbcTemplate.update("DELETE FROM member_goal WHERE goal_id >= ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM goal_job_interest WHERE id >= ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM goal WHERE id >= ?", ID_OFFSET);
+        for (int joinedCount : JOINED_COUNTS) {
+            memberRepository.deleteById(uidOf(joinedCount));
+            memberAuthRepository.deleteById(uidOf(joinedCount));
+        }
+        jobInterestRepository.deleteById(interestId);
+    }
+
+    @Test
+    @DisplayName("참여 목표 수별 관심직무 피드 - NOT IN vs NOT EXISTS")
+    public void interestFeed() {
+        for (int joinedCount : JOINED_COUNTS) {
+            String uid = uidOf(joinedCount);
+            measure("NOT IN", joinedCount, () -> jdbcTemplate.queryForList(NOT_IN_FEED_SQL, Long.class, interestId, uid));
+            measure("NOT EXISTS", joinedCount, () -> jdbcTemplate.queryForList(NOT_EXISTS_FEED_SQL, Long.class, interestId, uid));
+            measure("FEED API", joinedCount, () -> goalService.findGoalListByInterestId(uid, interestId, PageRequest.of(0, 20)));
+        }
+    }
+
+    private void measure(String name, int joinedCount, Supplier<?> feed) {
+        for (int i = 0; i < WARM_UP; i++) {
+            feed.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            feed.get();
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(elapsed);
+        logger.info("[{}] 목표 {}건, 참여 목표 {}개 - p50 {}ms, p95 {}ms", name, GOAL_COUNT, joinedCount,
+                elapsed[ITERATIONS / 2] / 1_000_000.0, elapsed[ITERATIONS * 95 / 100] / 1_000_000.0);
+    }
+
+    private static String uidOf(int joinedCount) {
+        return "feedBenchmark" + joinedCount;
+    }
+}
@@ -0,0 +1,124 @@
+package com.eroom.erooja.features.goal;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.domain.specification.GoalSpecifications;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.goal.service.GoalService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 관련도 정렬(RELEVANCE)과 기존 LIKE 검색의 지연 시간 비교.
+ * 기본 100만 건의 목표를 생성하며, -Dbenchmark.goals=N 으로 건수를 조절할 수 있다.
+ *   mvn test -Dtest=GoalSearchBenchmarkLocalTests -Dbenchmark.goals=1000000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalSearchBenchmarkLocalTests {
+    private static final Logger logger = LoggerFactory.getLogger(GoalSearchBenchmarkLocalTests.class);
+
+    private static final int GOAL_COUNT = Integer.getInteger("benchmark.goals", 1_000_000);
+    private static final int ID_OFFSET = 10_000_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+    private static final String[] WORDS = {
+            "스프링", "자바", "알고리즘", "디자인", "포트폴리오", "면접", "에러", "없애기", "공부", "정리",
+            "토익", "영어", "리액트", "코틀린", "데이터", "분석", "마케팅", "기획", "운동", "독서"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GoalRepository goalRepository;
+    private final GoalService goalService;
+    private final GoalSearchIndex goalSearchIndex;
+
+    @BeforeAll
+    public void setUpGoals() {
+        Random random = new Random(16L);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp end = Timestamp.valueOf(LocalDateTime.now().plusDays(30));
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < GOAL_COUNT; i++) {
+            batch.add(new Object[]{ID_OFFSET + i, sentence(random, 3), sentence(random, 12), now, now, now, end});
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == GOAL_COUNT - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO goal (id, title, description, join_count, is_end, is_date_fixed, " +
+                                "create_dt, update_dt, start_dt, end_dt) " +
+                                "VALUES (?, ?, ?, 1, false, false, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        long startedAt = System.currentTimeMillis();
+        goalSearchIndex.rebuild();
+        logger.info("목표 {}건 색인 구성 {}ms", GOAL_COUNT, System.currentTimeMillis() - startedAt);
+    }
+
+    @AfterAll
+    public void tearDownGoals() {
+        jdbcTemplate.update("DELETE FROM goal WHERE id >= ?", ID_OFFSET);
+    }
+
+    @Test
+    @DisplayName("제목 키워드 검색 - LIKE(ID 순) vs 관련도 순")
+    public void titleKeywordSearch() {
+        measure("LIKE", () -> goalRepository.findAll(
+                new GoalSpecifications(criteriaOf(GoalSortBy.ID)), criteriaOf(GoalSortBy.ID).getPageRequest()));
+        measure("INDEX + ID", () -> goalService.search(criteriaOf(GoalSortBy.ID)));
+        measure("RELEVANCE", () -> goalService.search(criteriaOf(GoalSortBy.RELEVANCE)));
+    }
+
+    private GoalCriteria criteriaOf(GoalSortBy goalSortBy) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword("알고리즘 공부")
+                .goalSortBy(goalSortBy)
+                .pageRequest(PageRequest.of(0, 10, Sort.by(goalSortBy.getField())))
+                .build();
+    }
+
+    private void measure(String name, Supplier<?> search) {
+        for (int i = 0; i < WARM_UP; i++) {
+            search.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            search.get();
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(elapsed);
+        logger.info("[{}] 목표 {}건 - p50 {}ms, p95 {}ms", name, GOAL_COUNT,
+                elapsed[ITERATIONS / 2] / 1_000_000.0, elapsed[ITERATIONS * 95 / 100] / 1_000_000.0);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < wordCount; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+}
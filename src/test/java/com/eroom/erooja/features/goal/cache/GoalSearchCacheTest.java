@@ -0,0 +1,70 @@
+package com.eroom.erooja.features.goal.cache;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class GoalSearchCacheTest {
+
+    @Test
+    @DisplayName("공백만 다른 키워드는 같은 캐시를 쓰고, 참여 인원 변경 시 해당 목표가 담긴 페이지와 참여 인원순 페이지만 비운다.")
+    public void invalidateJoinCountOf_evictsAffectedPagesOnly() {
+        //given
+        GoalSearchCache goalSearchCache = new GoalSearchCache(60, 100);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        GoalCriteria byId = criteriaOf(GoalSortBy.ID, "에러");
+        GoalCriteria byIdWithSpaces = criteriaOf(GoalSortBy.ID, "  에러 ");
+        GoalCriteria byJoinCount = criteriaOf(GoalSortBy.JOINT_CNT, "에러");
+        GoalCriteria otherGoals = criteriaOf(GoalSortBy.ID, "버그");
+
+        goalSearchCache.get(byId, pageOf(1L, loadCount));
+        goalSearchCache.get(byIdWithSpaces, pageOf(1L, loadCount));
+        goalSearchCache.get(byJoinCount, pageOf(2L, loadCount));
+        goalSearchCache.get(otherGoals, pageOf(3L, loadCount));
+
+        //when
+        goalSearchCache.invalidateJoinCountOf(1L);
+        goalSearchCache.get(byId, pageOf(1L, loadCount));
+        goalSearchCache.get(byJoinCount, pageOf(2L, loadCount));
+        goalSearchCache.get(otherGoals, pageOf(3L, loadCount));
+
+        //then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(5),
+                () -> assertThat(goalSearchCache.stats().getHitCount()).isEqualTo(2),
+                () -> assertThat(goalSearchCache.stats().getEvictionCount()).isEqualTo(2)
+        );
+    }
+
+    private static GoalCriteria criteriaOf(GoalSortBy goalSortBy, String keyword) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword(keyword)
+                .goalSortBy(goalSortBy)
+                .direction(Sort.Direction.ASC)
+                .pageRequest(PageRequest.of(0, 10, Sort.by(goalSortBy.getField())))
+                .build();
+    }
+
+    private static Function<GoalCriteria, Page<GoalListResponse>> pageOf(Long goalId, AtomicInteger loadCount) {
+        return criteria -> {
+            loadCount.incrementAndGet();
+            return new PageImpl<>(Collections.singletonList(GoalListResponse.builder().id(goalId).build()));
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.eroom.erooja.features.goal.controller;
+
+import com.eroom.erooja.documentation.v1.RestDocsConfiguration;
+import com.eroom.erooja.features.goal.dto.GoalTitleSuggestion;
+import com.eroom.erooja.features.goal.service.GoalService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Arrays;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@AutoConfigureMockMvc(addFilters = false)
+@SpringBootTest
+public class GoalSuggestControllerTest {
+    @MockBean
+    private GoalService goalService;
+    private final MockMvc mockMvc;
+
+    @Test
+    @DisplayName("목표 제목 자동완성 (성공)")
+    public void suggestGoalTitle_success() throws Exception {
+        //given
+        given(goalService.suggestTitles("스프", 2)).willReturn(Arrays.asList(
+                new GoalTitleSuggestion("스프링 부트 정복", 10),
+                new GoalTitleSuggestion("스프링 공부", 8)));
+
+        //when
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders
+                .get("/api/v1/goal/suggest")
+                .param("prefix", "스프")
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .characterEncoding("utf-8"))
+                .andDo(print());
+
+        //then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].title").value("스프링 부트 정복"))
+                .andExpect(jsonPath("[1].joinCount").value(8));
+
+        //Documentation
+        resultActions.andDo(
+                document("goal-suggest",
+                        requestParameters(
+                                parameterWithName("prefix").description("자동완성할 목표 제목 앞부분"),
+                                parameterWithName("size").description("자동완성 개수 (기본 10, 최대 10)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("[].title").description("목표 제목"),
+                                fieldWithPath("[].joinCount").description("같은 제목 목표들의 참여자 수 합")
+                        )
+                ));
+    }
+}
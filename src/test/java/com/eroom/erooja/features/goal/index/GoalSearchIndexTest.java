@@ -0,0 +1,114 @@
+package com.eroom.erooja.features.goal.index;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(MockitoExtension.class)
+public class GoalSearchIndexTest {
+    @Mock
+    private GoalRepository goalRepository;
+    private GoalSearchIndex goalSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        goalSearchIndex = new GoalSearchIndex(goalRepository);
+        goalSearchIndex.add(1L, "에러 없애기", "헛둘");
+        goalSearchIndex.add(2L, "에러 두번 없애기", "셋넷");
+        goalSearchIndex.add(3L, "에셋 만들기", "Spring 공부");
+    }
+
+    @Test
+    @DisplayName("한글 키워드의 bigram 으로 후보 목표를 찾는다.")
+    public void search_korean_keyword() {
+        //when
+        Optional<Set<Long>> hits = goalSearchIndex.search(Goal_.title, "없애기");
+        Optional<Set<Long>> descriptionHits = goalSearchIndex.search(Goal_.description, "spring");
+
+        //then
+        assertAll(
+                () -> assertThat(hits.get()).containsExactlyInAnyOrder(1L, 2L),
+                () -> assertThat(descriptionHits.get()).containsExactly(3L)
+        );
+    }
+
+    @Test
+    @DisplayName("색인에 없는 gram 이 포함되면 빈 집합, gram 보다 짧은 키워드는 색인을 사용하지 않는다.")
+    public void search_miss_and_short_keyword() {
+        //when
+        Optional<Set<Long>> missHits = goalSearchIndex.search(Goal_.title, "에러 만들기");
+        Optional<Set<Long>> shortHits = goalSearchIndex.search(Goal_.title, "에");
+        Optional<Set<Long>> noneFieldHits = goalSearchIndex.search(null, "에러");
+
+        //then
+        assertAll(
+                () -> assertThat(missHits.get()).isEmpty(),
+                () -> assertThat(shortHits.isPresent()).isFalse(),
+                () -> assertThat(noneFieldHits.isPresent()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("목표 수정 시 이전 gram 은 빠지고 새 gram 이 반영된다.")
+    public void update_reindexes_changed_grams() {
+        //when
+        goalSearchIndex.update(1L, "에러 없애기", "헛둘", "버그 잡기", "헛둘");
+
+        //then
+        assertAll(
+                () -> assertThat(goalSearchIndex.search(Goal_.title, "없애기").get()).containsExactly(2L),
+                () -> assertThat(goalSearchIndex.search(Goal_.title, "버그").get()).containsExactly(1L),
+                () -> assertThat(goalSearchIndex.search(Goal_.description, "헛둘").get()).containsExactly(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 높은 관련도 점수를 받고, 상위 k 개만 점수 순으로 고른다.")
+    public void score_boosts_title_hits() {
+        //given
+        goalSearchIndex.add(4L, "Spring 입문", "헛둘");
+        goalSearchIndex.add(5L, "JPA 공부", "Spring 으로 에러 없애기");
+
+        //when
+        Map<Long, Double> scores = goalSearchIndex.score("spring", Arrays.asList(3L, 4L, 5L, 1L));
+        List<Long> topTwo = TopKSelector.select(scores, 2);
+
+        //then
+        assertAll(
+                () -> assertThat(scores.get(4L)).isGreaterThan(scores.get(3L)),
+                () -> assertThat(scores.get(1L)).isZero(),
+                () -> assertThat(topTwo).hasSize(2),
+                () -> assertThat(topTwo.get(0)).isEqualTo(4L)
+        );
+    }
+
+    @Test
+    @DisplayName("k 가 점수 개수보다 훨씬 커도 점수 개수만큼만 고른다.")
+    public void topK_largerThanScores() {
+        //given
+        Map<Long, Double> scores = new HashMap<>();
+        scores.put(1L, 0.5);
+        scores.put(2L, 1.0);
+
+        //when
+        List<Long> ranked = TopKSelector.select(scores, Integer.MAX_VALUE);
+
+        //then
+        assertThat(ranked).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.eroom.erooja.features.goal.index;
+
+import com.eroom.erooja.features.goal.dto.GoalTitleSuggestion;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(MockitoExtension.class)
+public class GoalTitleSuggesterTest {
+    @Mock
+    private GoalRepository goalRepository;
+    private GoalTitleSuggester goalTitleSuggester;
+
+    @BeforeEach
+    void setUp() {
+        goalTitleSuggester = new GoalTitleSuggester(goalRepository);
+        goalTitleSuggester.put(1L, "스프링 공부", 3);
+        goalTitleSuggester.put(2L, "스프링  부트 정복", 10);
+        goalTitleSuggester.put(3L, "스프링 공부 ", 5);
+        goalTitleSuggester.put(4L, "자바 공부", 100);
+    }
+
+    @Test
+    @DisplayName("정규화한 제목 prefix 로 참여 인원 합이 큰 순서대로 자동완성한다.")
+    public void suggest_byJoinCountWeight() {
+        //when
+        List<GoalTitleSuggestion> suggestions = goalTitleSuggester.suggest("  스프", 10);
+
+        //then
+        assertAll(
+                () -> assertThat(suggestions).extracting(GoalTitleSuggestion::getTitle)
+                        .containsExactly("스프링 부트 정복", "스프링 공부"),
+                () -> assertThat(suggestions.get(1).getJoinCount()).isEqualTo(8),
+                () -> assertThat(goalTitleSuggester.suggest("파이썬", 10)).isEmpty(),
+                () -> assertThat(goalTitleSuggester.suggest(" ", 10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("목표 제목 수정과 참여 인원 변경이 자동완성 순서에 바로 반영된다.")
+    public void put_updatesIncrementally() {
+        //when
+        goalTitleSuggester.put(2L, "자바 정복", 10);
+        goalTitleSuggester.put(1L, "스프링 공부", 300);
+
+        //then
+        assertAll(
+                () -> assertThat(goalTitleSuggester.suggest("스프링", 10)).extracting(GoalTitleSuggestion::getTitle)
+                        .containsExactly("스프링 공부"),
+                () -> assertThat(goalTitleSuggester.suggest("자바", 1)).extracting(GoalTitleSuggestion::getTitle)
+                        .containsExactly("자바 공부"),
+                () -> assertThat(goalTitleSuggester.suggest("스", 10).get(0).getJoinCount()).isEqualTo(305)
+        );
+    }
+
+    @Test
+    @DisplayName("깊이 제한보다 긴 prefix 도 자동완성한다.")
+    public void suggest_prefixLongerThanMaxDepth() {
+        //given
+        goalTitleSuggester.put(5L, "매일 아침 여섯시에 일어나서 영어 공부하기", 2);
+        goalTitleSuggester.put(6L, "매일 아침 여섯시에 일어나서 운동하기", 1);
+
+        //when
+        List<GoalTitleSuggestion> suggestions = goalTitleSuggester.suggest("매일 아침 여섯시에 일어나서 운", 10);
+
+        //then
+        assertThat(suggestions).extracting(GoalTitleSuggestion::getTitle)
+                .containsExactly("매일 아침 여섯시에 일어나서 운동하기");
+    }
+
+    @Test
+    @DisplayName("참여 인원 증가분은 모아 두었다가 한 번에 반영하고, 색인에 없는 목표의 증가분은 버린다.")
+    public void increaseJoinCount_appliedInBatch() {
+        //given
+        goalTitleSuggester.increaseJoinCount(1L, 1);
+        goalTitleSuggester.increaseJoinCount(1L, 1);
+        goalTitleSuggester.increaseJoinCount(99L, 1);
+        List<GoalTitleSuggestion> beforeApply = goalTitleSuggester.suggest("스프링 공", 10);
+
+        //when
+        int applied = goalTitleSuggester.applyPendingJoinCounts();
+
+        //then
+        assertAll(
+                () -> assertThat(beforeApply.get(0).getJoinCount()).isEqualTo(8),
+                () -> assertThat(applied).isEqualTo(1),
+                () -> assertThat(goalTitleSuggester.suggest("스프링 공", 10).get(0).getJoinCount()).isEqualTo(10),
+                () -> assertThat(goalTitleSuggester.applyPendingJoinCounts()).isZero()
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.eroom.erooja.features.goal.recommend;
+
+import com.eroom.erooja.features.goaljobinterest.dto.GoalRankInput;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestRecommendationMaterializerTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private GoalJobInterestRepository goalJobInterestRepository;
+
+    @Test
+    @DisplayName("관심직무별로 참여 인원과 최신순 점수가 높은 목표를 최대 개수만큼 long 배열로 만든다.")
+    public void rebuild_ranksAndCapsGoalsPerInterest() {
+        //given
+        InterestRecommendationMaterializer materializer =
+                new InterestRecommendationMaterializer(goalJobInterestRepository, 2, 10);
+
+        given(goalJobInterestRepository.findRankInputs(eq(0L), any(Pageable.class))).willReturn(Arrays.asList(
+                rankInput(1L, 3L, 10L, 1, NOW.minusDays(60), false, null),
+                rankInput(2L, 3L, 11L, 50, NOW.minusDays(60), false, null),
+                rankInput(3L, 3L, 12L, 1, NOW, false, null),
+                rankInput(4L, 3L, 13L, 500, NOW, true, NOW.minusDays(1)),
+                rankInput(5L, 6L, 10L, 1, NOW.minusDays(60), false, null)
+        ));
+
+        //when
+        materializer.rebuild();
+
+        //then
+        assertAll(
+                () -> assertThat(materializer.rankedGoalIdsOf(3L).get()).containsExactly(11L, 12L),
+                () -> assertThat(materializer.rankedGoalIdsOf(6L).get()).containsExactly(10L),
+                () -> assertThat(materializer.rankedGoalIdsOf(14L).get()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 목표는 기간이 고정된 경우에만 추천 목록에서 뺀다.")
+    public void rebuild_excludesOnlyFixedDateAndExpired() {
+        //given
+        InterestRecommendationMaterializer materializer =
+                new InterestRecommendationMaterializer(goalJobInterestRepository, 10, 10);
+
+        given(goalJobInterestRepository.findRankInputs(eq(0L), any(Pageable.class))).willReturn(Arrays.asList(
+                rankInput(1L, 3L, 10L, 10, NOW, true, NOW.minusDays(1)),
+                rankInput(2L, 3L, 11L, 5, NOW, false, NOW.minusDays(1)),
+                rankInput(3L, 3L, 12L, 1, NOW, true, NOW.plusDays(1))
+        ));
+
+        //when
+        materializer.rebuild();
+
+        //then
+        assertThat(materializer.rankedGoalIdsOf(3L).get()).containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("목록을 만들기 전에는 추천 목록을 사용하지 않는다.")
+    public void rankedGoalIdsOf_empty_beforeRebuild() {
+        //given
+        InterestRecommendationMaterializer materializer =
+                new InterestRecommendationMaterializer(goalJobInterestRepository, 2, 10);
+
+        //when & then
+        assertThat(materializer.rankedGoalIdsOf(3L).isPresent()).isFalse();
+    }
+
+    private static GoalRankInput rankInput(Long id, Long jobInterestId, Long goalId, int joinCount,
+                                           LocalDateTime createDt, Boolean isDateFixed, LocalDateTime endDt) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("id", id);
+        source.put("jobInterestId", jobInterestId);
+        source.put("goalId", goalId);
+        source.put("joinCount", joinCount);
+        source.put("createDt", createDt);
+        source.put("isDateFixed", isDateFixed);
+        source.put("endDt", endDt);
+        return new SpelAwareProxyProjectionFactory().createProjection(GoalRankInput.class, source);
+    }
+}
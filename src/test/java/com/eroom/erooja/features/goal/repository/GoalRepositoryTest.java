@@ -1,8 +1,10 @@
 package com.eroom.erooja.features.goal.repository;
 
+import com.eroom.erooja.common.migration.SchemaMigrationConfig;
 import com.eroom.erooja.domain.enums.JobInterestType;
 import com.eroom.erooja.domain.model.*;
 import com.eroom.erooja.domain.repos.JobInterestRepository;
+import com.eroom.erooja.domain.specification.GoalFeedSpecifications;
 import com.eroom.erooja.domain.repos.MemberAuthRepository;
 import com.eroom.erooja.domain.repos.MemberRepository;
 import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
@@ -13,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -26,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @ExtendWith(MockitoExtension.class)
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 @AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SchemaMigrationConfig.class)
 @DataJpaTest
 public class GoalRepositoryTest {
     private final GoalRepository goalRepository;
@@ -84,7 +90,7 @@ public class GoalRepositoryTest {
                         .goalId(saveGoal1.getId())
                         .isEnd(false).build());
 
-        Page<Goal> findGoalPage = goalRepository.findGoalByInterestId(saveServerInterest.getId(), mockUid1, PageRequest.of(0, 2));
+        Page<Goal> findGoalPage = goalRepository.findAll(new GoalFeedSpecifications(saveServerInterest.getId(), mockUid1), PageRequest.of(0, 2));
 
         //then
         assertAll(
@@ -0,0 +1,167 @@
+package com.eroom.erooja.features.goal.service;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalCursor;
+import com.eroom.erooja.features.goal.dto.GoalCursorResponse;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalCursorServiceTest {
+    private static final String KEYWORD = "커서페이지";
+    private static final String MANY_HITS_KEYWORD = "후보많은검색";
+
+    private final GoalService goalService;
+    private final GoalRepository goalRepository;
+    private final GoalSearchIndex goalSearchIndex;
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 정렬 키가 같거나 NULL 인 목표도 빠짐없이 한 번씩 조회된다.")
+    public void searchByCursor_visitsEveryGoalOnce() {
+        //given
+        List<Goal> goals = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 8; i++) {
+            Goal goal = goalRepository.save(Goal.builder()
+                    .title(KEYWORD + " " + i)
+                    .description("description")
+                    .startDt(now)
+                    .endDt(i % 3 == 0 ? null : now.plusDays(i % 2 + 1))
+                    .isDateFixed(false)
+                    .isEnd(false)
+                    .joinCount(i % 2).build());
+            goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription());
+            goals.add(goal);
+        }
+
+        //when
+        List<Long> joinCountDescIds = readAll(GoalSortBy.JOINT_CNT, Sort.Direction.DESC);
+        List<Long> endDtAscIds = readAll(GoalSortBy.END_DT, Sort.Direction.ASC);
+        List<Long> endDtDescIds = readAll(GoalSortBy.END_DT, Sort.Direction.DESC);
+
+        //then
+        Comparator<Goal> byJoinCountDesc = Comparator.comparing(Goal::getJoinCount).reversed()
+                .thenComparing(Comparator.comparing(Goal::getId).reversed());
+        Comparator<Goal> byEndDtAsc = Comparator.comparing(Goal::getEndDt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Goal::getId);
+
+        assertAll(
+                () -> assertThat(joinCountDescIds).containsExactlyElementsOf(idsSortedBy(goals, byJoinCountDesc)),
+                () -> assertThat(endDtAscIds).containsExactlyElementsOf(idsSortedBy(goals, byEndDtAsc)),
+                () -> assertThat(endDtDescIds).containsExactlyElementsOf(idsSortedBy(goals, byEndDtAsc.reversed()))
+        );
+    }
+
+    @Test
+    @DisplayName("키워드 후보가 1000 개를 넘어도 색인 후보 안에서만 걸러 페이지, 전체 건수, 커서 결과가 정확하다.")
+    public void search_manyKeywordHits_checksCandidatesInChunks() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        List<Goal> goals = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            goals.add(Goal.builder()
+                    .title(MANY_HITS_KEYWORD + " " + i)
+                    .description("description")
+                    .startDt(now)
+                    .endDt(i % 4 == 0 ? null : now.plusDays(i % 7 + 1))
+                    .isDateFixed(false)
+                    .isEnd(false)
+                    .joinCount(i % 5).build());
+        }
+        goalRepository.saveAll(goals);
+        goals.forEach(goal -> goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription()));
+
+        Comparator<Goal> byJoinCountDesc = Comparator.comparing(Goal::getJoinCount).reversed()
+                .thenComparing(Comparator.comparing(Goal::getId).reversed());
+        List<Goal> matched = goals.stream()
+                .filter(goal -> goal.getEndDt() != null)
+                .collect(Collectors.toList());
+        List<Long> expectedIds = idsSortedBy(matched, byJoinCountDesc);
+
+        //when
+        Page<GoalListResponse> secondPage = goalService.search(manyHitsCriteriaOf(now, null, PageRequest.of(1, 100,
+                Sort.by(Sort.Direction.DESC, GoalSortBy.JOINT_CNT.getField()))));
+        List<Long> cursorIds = new ArrayList<>();
+        GoalCursor cursor = null;
+        GoalCursorResponse response;
+        do {
+            response = goalService.searchByCursor(manyHitsCriteriaOf(now, cursor, PageRequest.of(0, 200,
+                    Sort.by(Sort.Direction.DESC, GoalSortBy.JOINT_CNT.getField()))));
+            cursorIds.addAll(response.getContent().stream().map(GoalListResponse::getId).collect(Collectors.toList()));
+            cursor = response.isHasNext() ? GoalCursor.decode(response.getNextCursor(), GoalSortBy.JOINT_CNT, Sort.Direction.DESC) : null;
+        } while (response.isHasNext());
+
+        //then
+        assertAll(
+                () -> assertThat(secondPage.getTotalElements()).isEqualTo(matched.size()),
+                () -> assertThat(secondPage.getContent()).extracting(GoalListResponse::getId)
+                        .containsExactlyElementsOf(expectedIds.subList(100, 200)),
+                () -> assertThat(cursorIds).containsExactlyElementsOf(expectedIds)
+        );
+    }
+
+    private GoalCriteria manyHitsCriteriaOf(LocalDateTime fromDt, GoalCursor cursor, PageRequest pageRequest) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword(MANY_HITS_KEYWORD)
+                .fromDt(fromDt)
+                .goalSortBy(GoalSortBy.JOINT_CNT)
+                .direction(Sort.Direction.DESC)
+                .cursor(cursor)
+                .pageRequest(pageRequest)
+                .build();
+    }
+
+    private List<Long> readAll(GoalSortBy goalSortBy, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        GoalCursor cursor = null;
+        GoalCursorResponse response;
+        do {
+            response = goalService.searchByCursor(criteriaOf(goalSortBy, direction, cursor));
+            ids.addAll(response.getContent().stream().map(GoalListResponse::getId).collect(Collectors.toList()));
+            cursor = response.isHasNext() ? GoalCursor.decode(response.getNextCursor(), goalSortBy, direction) : null;
+        } while (response.isHasNext());
+        return ids;
+    }
+
+    private GoalCriteria criteriaOf(GoalSortBy goalSortBy, Sort.Direction direction, GoalCursor cursor) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword(KEYWORD)
+                .goalSortBy(goalSortBy)
+                .direction(direction)
+                .cursor(cursor)
+                .pageRequest(PageRequest.of(0, 3, Sort.by(direction, goalSortBy.getField())))
+                .build();
+    }
+
+    private static List<Long> idsSortedBy(List<Goal> goals, Comparator<Goal> comparator) {
+        return goals.stream().sorted(comparator).map(Goal::getId).collect(Collectors.toList());
+    }
+}
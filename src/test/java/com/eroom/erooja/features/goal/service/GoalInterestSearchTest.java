@@ -0,0 +1,187 @@
+package com.eroom.erooja.features.goal.service;
+
+import com.eroom.erooja.domain.enums.JobInterestType;
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.JobInterest;
+import com.eroom.erooja.domain.model.MemberAuth;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.domain.model.Members;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.domain.repos.JobInterestRepository;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.dto.JobInterestMatch;
+import com.eroom.erooja.features.goal.recommend.InterestRecommendationMaterializer;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.goaljobinterest.service.GoalJobInterestService;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import com.eroom.erooja.features.goal.dto.GoalSummary;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalInterestSearchTest {
+    private final GoalService goalService;
+    private final GoalRepository goalRepository;
+    private final GoalJobInterestService goalJobInterestService;
+    private final JobInterestRepository jobInterestRepository;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final InterestRecommendationMaterializer interestRecommendationMaterializer;
+    private final MemberGoalRepository memberGoalRepository;
+    private final MemberRepository memberRepository;
+    private final MemberAuthRepository memberAuthRepository;
+
+    @Test
+    @DisplayName("관심직무 ANY/ALL 조건으로 목표를 중복 없이 검색한다.")
+    public void search_byJobInterests_anyAndAll() {
+        //given
+        JobInterest server = saveInterest("서버_관심직무검색");
+        JobInterest android = saveInterest("안드로이드_관심직무검색");
+
+        Goal serverGoal = saveGoal("관심직무검색 서버");
+        Goal bothGoal = saveGoal("관심직무검색 서버 안드로이드");
+        goalJobInterestService.addJobInterestListForGoal(serverGoal.getId(), Arrays.asList(server.getId()));
+        goalJobInterestService.addJobInterestListForGoal(bothGoal.getId(), Arrays.asList(server.getId(), android.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        Page<GoalListResponse> any = goalService.search(criteriaOf(JobInterestMatch.ANY, server, android));
+        Page<GoalListResponse> all = goalService.search(criteriaOf(JobInterestMatch.ALL, server, android));
+
+        //then
+        assertAll(
+                () -> assertThat(any.getContent()).extracting(GoalListResponse::getId)
+                        .containsExactly(serverGoal.getId(), bothGoal.getId()),
+                () -> assertThat(any.getTotalElements()).isEqualTo(2),
+                () -> assertThat(all.getContent()).extracting(GoalListResponse::getId)
+                        .containsExactly(bothGoal.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("목표 목록은 엔티티 대신 요약 정보와 일괄 조회한 관심직무로 구성된다.")
+    public void search_loadsSummaryWithoutGoalEntity() {
+        //given
+        JobInterest server = saveInterest("서버_요약조회");
+        JobInterest android = saveInterest("안드로이드_요약조회");
+
+        Goal goal = goalRepository.save(Goal.builder()
+                .title("요약조회 목표")
+                .description(String.join("", Collections.nCopies(300, "설")))
+                .startDt(LocalDateTime.now())
+                .isDateFixed(false)
+                .isEnd(false)
+                .joinCount(1).build());
+        goalJobInterestService.addJobInterestListForGoal(goal.getId(), Arrays.asList(server.getId(), android.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long goalLoadsBefore = statistics.getEntityStatistics(Goal.class.getName()).getLoadCount();
+        long collectionLoadsBefore = statistics.getCollectionLoadCount();
+
+        //when
+        Page<GoalListResponse> page = goalService.search(criteriaOf(JobInterestMatch.ALL, server, android));
+
+        //then
+        GoalListResponse response = page.getContent().get(0);
+        assertAll(
+                () -> assertThat(response.getId()).isEqualTo(goal.getId()),
+                () -> assertThat(response.getDescription()).hasSize(GoalSummary.DESCRIPTION_LENGTH),
+                () -> assertThat(response.getJobInterests()).extracting(JobInterest::getId)
+                        .containsExactly(server.getId(), android.getId()),
+                () -> assertThat(statistics.getEntityStatistics(Goal.class.getName()).getLoadCount()).isEqualTo(goalLoadsBefore),
+                () -> assertThat(statistics.getCollectionLoadCount()).isEqualTo(collectionLoadsBefore)
+        );
+    }
+
+    @Test
+    @DisplayName("관심직무 피드는 미리 계산된 추천 목록에서 사용자가 참여한 목표를 제외하고 한 페이지만 조회한다.")
+    public void findGoalListByInterestId_usesRecommendation() {
+        //given
+        JobInterest server = saveInterest("서버_추천목록");
+        Goal joinedGoal = saveGoal("추천목록 참여한 목표", 100);
+        Goal popularGoal = saveGoal("추천목록 인기 목표", 50);
+        Goal quietGoal = saveGoal("추천목록 조용한 목표", 1);
+        for (Goal goal : Arrays.asList(joinedGoal, popularGoal, quietGoal)) {
+            goalJobInterestService.addJobInterestListForGoal(goal.getId(), Collections.singletonList(server.getId()));
+        }
+
+        MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid("recommendUid").build());
+        memberRepository.save(Members.builder().uid("recommendUid").memberAuth(memberAuth).build());
+        memberGoalRepository.save(MemberGoal.builder()
+                .uid("recommendUid")
+                .goalId(joinedGoal.getId())
+                .isEnd(false).build());
+        entityManager.flush();
+        entityManager.clear();
+        interestRecommendationMaterializer.rebuild();
+
+        //when
+        Page<GoalListResponse> feed = goalService.findGoalListByInterestId("recommendUid", server.getId(), PageRequest.of(0, 1));
+
+        //then
+        assertAll(
+                () -> assertThat(feed.getContent()).extracting(GoalListResponse::getId).containsExactly(popularGoal.getId()),
+                () -> assertThat(feed.getTotalElements()).isEqualTo(2)
+        );
+    }
+
+    private JobInterest saveInterest(String name) {
+        return jobInterestRepository.save(JobInterest.builder()
+                .name(name)
+                .jobInterestType(JobInterestType.JOB_INTEREST).build());
+    }
+
+    private Goal saveGoal(String title) {
+        return saveGoal(title, 1);
+    }
+
+    private Goal saveGoal(String title, int joinCount) {
+        return goalRepository.save(Goal.builder()
+                .title(title)
+                .description("description")
+                .startDt(LocalDateTime.now())
+                .isDateFixed(false)
+                .isEnd(false)
+                .joinCount(joinCount).build());
+    }
+
+    private GoalCriteria criteriaOf(JobInterestMatch jobInterestMatch, JobInterest... interests) {
+        return GoalCriteria.builder()
+                .jobInterestIdSet(new HashSet<>(Arrays.asList(interests[0].getId(), interests[1].getId())))
+                .jobInterestMatch(jobInterestMatch)
+                .goalSortBy(GoalSortBy.ID)
+                .direction(Sort.Direction.ASC)
+                .pageRequest(PageRequest.of(0, 10, Sort.by(Goal_.id)))
+                .build();
+    }
+}
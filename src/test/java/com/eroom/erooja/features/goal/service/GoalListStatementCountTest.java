@@ -0,0 +1,116 @@
+package com.eroom.erooja.features.goal.service;
+
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.MemberAuth;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.domain.model.Members;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalListStatementCountTest {
+    private static final String KEYWORD = "참여자이미지";
+
+    private final GoalService goalService;
+    private final GoalRepository goalRepository;
+    private final GoalSearchIndex goalSearchIndex;
+    private final MemberGoalRepository memberGoalRepository;
+    private final MemberRepository memberRepository;
+    private final MemberAuthRepository memberAuthRepository;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("목표 목록의 참여자 이미지는 페이지 크기와 관계없이 같은 수의 쿼리로 조회된다.")
+    public void search_statementCount_isConstantPerPage() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid("imageUid" + i).build());
+            memberRepository.save(Members.builder()
+                    .uid("imageUid" + i)
+                    .nickname("imageNickname" + i)
+                    .imagePath("https://image/" + i)
+                    .memberAuth(memberAuth).build());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Goal goal = goalRepository.save(Goal.builder()
+                    .title(KEYWORD + " " + i)
+                    .description("description")
+                    .startDt(LocalDateTime.now())
+                    .endDt(LocalDateTime.now().plusDays(1))
+                    .isDateFixed(false)
+                    .isEnd(false)
+                    .joinCount(3).build());
+            goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription());
+
+            for (int j = 0; j < 3; j++) {
+                memberGoalRepository.save(MemberGoal.builder()
+                        .uid("imageUid" + j)
+                        .goalId(goal.getId())
+                        .isEnd(false).build());
+            }
+        }
+        entityManager.flush();
+
+        //when
+        long smallPageStatements = countStatements(5);
+        long largePageStatements = countStatements(20);
+        Page<GoalListResponse> largePage = goalService.search(criteriaOf(20));
+
+        //then
+        assertAll(
+                () -> assertThat(largePage.getContent()).hasSize(20),
+                () -> assertThat(largePage.getContent()).allMatch(goal -> goal.getUserImages().size() == 3),
+                () -> assertThat(largePageStatements).isEqualTo(smallPageStatements)
+        );
+    }
+
+    private long countStatements(int pageSize) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+
+        goalService.search(criteriaOf(pageSize));
+
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private GoalCriteria criteriaOf(int pageSize) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword(KEYWORD)
+                .goalSortBy(GoalSortBy.ID)
+                .pageRequest(PageRequest.of(0, pageSize, Sort.by(Goal_.id)))
+                .build();
+    }
+}
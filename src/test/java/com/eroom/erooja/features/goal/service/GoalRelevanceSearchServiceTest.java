@@ -0,0 +1,91 @@
+package com.eroom.erooja.features.goal.service;
+
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalRelevanceSearchServiceTest {
+    private static final String KEYWORD = "관련도정렬";
+
+    private final GoalService goalService;
+    private final GoalRepository goalRepository;
+    private final GoalSearchIndex goalSearchIndex;
+
+    @Test
+    @DisplayName("관련도 정렬은 색인 후보를 점수 순으로 조건에 맞는지 확인하고, 후보를 다 확인하기 전에는 색인 후보 수를 전체 건수로 돌려준다.")
+    public void search_rankedByRelevance() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        Goal titleGoal1 = saveGoal(KEYWORD + " 1", "설명", now.plusDays(1));
+        Goal expiredTitleGoal = saveGoal(KEYWORD + " 2", "설명", null);
+        Goal titleGoal3 = saveGoal(KEYWORD + " 3", "설명", now.plusDays(1));
+        Goal descriptionGoal1 = saveGoal("다른 목표 1", KEYWORD + " 설명", now.plusDays(1));
+        Goal descriptionGoal2 = saveGoal("다른 목표 2", KEYWORD + " 설명", now.plusDays(1));
+        Goal descriptionGoal3 = saveGoal("다른 목표 3", KEYWORD + " 설명", now.plusDays(1));
+
+        //when
+        Page<GoalListResponse> firstPage = goalService.search(criteriaOf(now, 0));
+        Page<GoalListResponse> lastPage = goalService.search(criteriaOf(now, 2));
+
+        //then
+        assertAll(
+                () -> assertThat(idsOf(firstPage)).containsExactly(titleGoal1.getId(), titleGoal3.getId()),
+                () -> assertThat(firstPage.getTotalElements()).isEqualTo(6),
+                () -> assertThat(idsOf(lastPage)).containsExactly(descriptionGoal3.getId()),
+                () -> assertThat(lastPage.getTotalElements()).isEqualTo(5),
+                () -> assertThat(idsOf(firstPage)).doesNotContain(expiredTitleGoal.getId(),
+                        descriptionGoal1.getId(), descriptionGoal2.getId())
+        );
+    }
+
+    private Goal saveGoal(String title, String description, LocalDateTime endDt) {
+        Goal goal = goalRepository.save(Goal.builder()
+                .title(title)
+                .description(description)
+                .startDt(LocalDateTime.now())
+                .endDt(endDt)
+                .isDateFixed(false)
+                .isEnd(false)
+                .joinCount(0).build());
+        goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription());
+        return goal;
+    }
+
+    private GoalCriteria criteriaOf(LocalDateTime fromDt, int page) {
+        return GoalCriteria.builder()
+                .keyword(KEYWORD)
+                .fromDt(fromDt)
+                .goalSortBy(GoalSortBy.RELEVANCE)
+                .direction(Sort.Direction.DESC)
+                .pageRequest(PageRequest.of(page, 2, Sort.by(Sort.Direction.DESC, GoalSortBy.RELEVANCE.getField())))
+                .build();
+    }
+
+    private static List<Long> idsOf(Page<GoalListResponse> page) {
+        return page.getContent().stream().map(GoalListResponse::getId).collect(Collectors.toList());
+    }
+}
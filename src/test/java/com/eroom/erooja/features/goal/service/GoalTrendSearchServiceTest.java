@@ -0,0 +1,101 @@
+package com.eroom.erooja.features.goal.service;
+
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.domain.field.Goal_;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.specification.GoalCriteria;
+import com.eroom.erooja.features.goal.dto.GoalListResponse;
+import com.eroom.erooja.features.goal.dto.GoalSortBy;
+import com.eroom.erooja.features.goal.index.GoalSearchIndex;
+import com.eroom.erooja.features.goal.trend.GoalTrendCounter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class GoalTrendSearchServiceTest {
+    private static final String KEYWORD = "추세정렬";
+
+    private final GoalService goalService;
+    private final GoalSearchIndex goalSearchIndex;
+    private final GoalTrendCounter goalTrendCounter;
+    private final MemberGoalFixtures memberGoalFixtures;
+
+    private final List<Goal> savedGoals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        goalTrendCounter.clear();
+        savedGoals.forEach(goal -> memberGoalFixtures.deleteGoal(goal.getId()));
+    }
+
+    @Test
+    @DisplayName("추세 정렬은 최근 참여가 있는 목표를 점수 순으로 먼저 보여 주고, 나머지는 ID 순으로 이어서 보여 준다.")
+    public void search_rankedByTrend() {
+        //given
+        List<Goal> goals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            goals.add(saveGoal(KEYWORD + " " + i));
+        }
+        Goal otherGoal = saveGoal("다른 목표");
+
+        recordJoins(goals.get(3), 3);
+        recordJoins(goals.get(1), 2);
+        recordJoins(otherGoal, 5);
+
+        //when
+        Page<GoalListResponse> firstPage = goalService.search(criteriaOf(0));
+        Page<GoalListResponse> secondPage = goalService.search(criteriaOf(1));
+
+        //then
+        assertAll(
+                () -> assertThat(idsOf(firstPage))
+                        .containsExactly(goals.get(3).getId(), goals.get(1).getId(), goals.get(0).getId()),
+                () -> assertThat(idsOf(secondPage)).containsExactly(goals.get(2).getId(), goals.get(4).getId()),
+                () -> assertThat(firstPage.getTotalElements()).isEqualTo(5)
+        );
+    }
+
+    private Goal saveGoal(String title) {
+        Goal goal = memberGoalFixtures.createGoal(title);
+        goalSearchIndex.add(goal.getId(), goal.getTitle(), goal.getDescription());
+        savedGoals.add(goal);
+        return goal;
+    }
+
+    private void recordJoins(Goal goal, int count) {
+        for (int i = 0; i < count; i++) {
+            goalTrendCounter.recordJoin(goal.getId());
+        }
+    }
+
+    private GoalCriteria criteriaOf(int page) {
+        return GoalCriteria.builder()
+                .field(Goal_.title)
+                .keyword(KEYWORD)
+                .goalSortBy(GoalSortBy.TRENDING)
+                .direction(Sort.Direction.DESC)
+                .pageRequest(PageRequest.of(page, 3, Sort.by(Sort.Direction.DESC, GoalSortBy.TRENDING.getField())))
+                .build();
+    }
+
+    private static List<Long> idsOf(Page<GoalListResponse> page) {
+        return page.getContent().stream().map(GoalListResponse::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.eroom.erooja.features.goal.trend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class GoalTrendCounterTest {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+    private final AtomicLong now = new AtomicLong(1000 * HOUR_MILLIS);
+
+    @Test
+    @DisplayName("최근 참여일수록 높은 점수를 받고, 윈도우를 벗어난 참여는 점수에서 빠진다.")
+    public void score_weightsRecentJoins() {
+        //given
+        GoalTrendCounter counter = new GoalTrendCounter(24, 100, "", now::get);
+        counter.recordJoin(1L);
+        counter.recordJoin(1L);
+        counter.recordJoin(1L);
+
+        now.addAndGet(20 * HOUR_MILLIS);
+        counter.recordJoin(2L);
+        counter.recordJoin(2L);
+
+        //when
+        Map<Long, Double> scores = counter.score(Arrays.asList(1L, 2L, 3L));
+        now.addAndGet(5 * HOUR_MILLIS);
+        Map<Long, Double> laterScores = counter.score(Arrays.asList(1L, 2L));
+
+        //then
+        assertAll(
+                () -> assertThat(scores.get(2L)).isGreaterThan(scores.get(1L)),
+                () -> assertThat(scores.get(3L)).isZero(),
+                () -> assertThat(laterScores.get(1L)).isZero(),
+                () -> assertThat(laterScores.get(2L)).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("추적하는 목표 수는 최대 개수를 넘지 않고, 최근 참여가 없는 목표부터 내보낸다.")
+    public void evictCold_boundsTrackedGoals() {
+        //given
+        GoalTrendCounter counter = new GoalTrendCounter(24, 2, "", now::get);
+        counter.recordJoin(1L);
+        now.addAndGet(30 * HOUR_MILLIS);
+        counter.recordJoin(2L);
+        counter.recordJoin(2L);
+        counter.recordJoin(3L);
+        counter.recordJoin(4L);
+
+        //when
+        counter.evictCold();
+
+        //then
+        assertAll(
+                () -> assertThat(counter.size()).isEqualTo(2),
+                () -> assertThat(counter.score(Arrays.asList(2L)).get(2L)).isPositive(),
+                () -> assertThat(counter.score(Arrays.asList(1L)).get(1L)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("종료 시 저장한 윈도우를 재시작 후 다시 불러온다.")
+    public void snapshot_and_restore(@TempDir Path tempDir) {
+        //given
+        String snapshotPath = tempDir.resolve("goal-trend.snapshot").toString();
+        GoalTrendCounter counter = new GoalTrendCounter(24, 100, snapshotPath, now::get);
+        counter.recordJoin(1L);
+        now.addAndGet(HOUR_MILLIS);
+        counter.recordJoin(1L);
+        counter.recordJoin(2L);
+        Map<Long, Double> scoresBeforeShutdown = counter.score(Arrays.asList(1L, 2L));
+
+        //when
+        counter.snapshot();
+        GoalTrendCounter restarted = new GoalTrendCounter(24, 100, snapshotPath, now::get);
+        restarted.restore();
+
+        //then
+        assertThat(restarted.score(Arrays.asList(1L, 2L))).isEqualTo(scoresBeforeShutdown);
+    }
+}
@@ -0,0 +1,62 @@
+package com.eroom.erooja.features.goaljobinterest.index;
+
+import com.eroom.erooja.features.goal.dto.JobInterestMatch;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(MockitoExtension.class)
+public class JobInterestGoalIndexTest {
+    @Mock
+    private GoalJobInterestRepository goalJobInterestRepository;
+    private JobInterestGoalIndex jobInterestGoalIndex;
+
+    @BeforeEach
+    void setUp() {
+        jobInterestGoalIndex = new JobInterestGoalIndex(goalJobInterestRepository);
+        jobInterestGoalIndex.rebuild();
+
+        jobInterestGoalIndex.add(1L, 3L);
+        jobInterestGoalIndex.add(1L, 6L);
+        jobInterestGoalIndex.add(2L, 3L);
+        jobInterestGoalIndex.add(2L, 5L);
+        jobInterestGoalIndex.add(3L, 14L);
+    }
+
+    @Test
+    @DisplayName("관심직무 조건을 비트맵 OR(ANY) / AND(ALL) 로 계산한다.")
+    public void match_anyAndAll() {
+        //when
+        BitSet any = jobInterestGoalIndex.match(new HashSet<>(Arrays.asList(5L, 6L)), JobInterestMatch.ANY).get();
+        BitSet all = jobInterestGoalIndex.match(new HashSet<>(Arrays.asList(3L, 6L)), JobInterestMatch.ALL).get();
+        BitSet none = jobInterestGoalIndex.match(new HashSet<>(Arrays.asList(3L, 14L)), JobInterestMatch.ALL).get();
+
+        //then
+        assertAll(
+                () -> assertThat(any.stream().boxed()).containsExactly(1, 2),
+                () -> assertThat(all.stream().boxed()).containsExactly(1),
+                () -> assertThat(none.isEmpty()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("비트맵으로 표현할 수 없는 목표 ID 가 들어오면 색인을 사용하지 않는다.")
+    public void match_unavailable_whenGoalIdOverflows() {
+        //when
+        jobInterestGoalIndex.add(Integer.MAX_VALUE + 1L, 3L);
+
+        //then
+        assertThat(jobInterestGoalIndex.match(new HashSet<>(Arrays.asList(3L)), JobInterestMatch.ANY).isPresent()).isFalse();
+    }
+}
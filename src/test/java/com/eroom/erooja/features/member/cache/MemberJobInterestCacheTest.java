@@ -0,0 +1,92 @@
+package com.eroom.erooja.features.member.cache;
+
+import com.eroom.erooja.domain.enums.JobInterestType;
+import com.eroom.erooja.domain.model.JobInterest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class MemberJobInterestCacheTest {
+    private static final JobInterest SERVER = JobInterest.builder()
+            .id(1L)
+            .name("서버")
+            .jobInterestType(JobInterestType.JOB_INTEREST).build();
+
+    @Test
+    @DisplayName("캐시에 없는 사용자만 모아 한 번에 읽고, 관심 직무가 없는 사용자도 빈 목록으로 캐시한다.")
+    public void getAll_loadsOnlyMissingUids() {
+        //given
+        MemberJobInterestCache cache = new MemberJobInterestCache(60, 100);
+        List<Set<String>> loadedUids = new ArrayList<>();
+
+        //when
+        cache.getAll(Arrays.asList("a", "b"), uids -> {
+            loadedUids.add(new HashSet<>(uids));
+            return Collections.singletonMap("a", Collections.singletonList(SERVER));
+        });
+        Map<String, List<JobInterest>> interests = cache.getAll(Arrays.asList("a", "b", "c"), uids -> {
+            loadedUids.add(new HashSet<>(uids));
+            return Collections.emptyMap();
+        });
+
+        //then
+        assertAll(
+                () -> assertThat(loadedUids).containsExactly(
+                        new HashSet<>(Arrays.asList("a", "b")),
+                        Collections.singleton("c")),
+                () -> assertThat(interests.get("a")).containsExactly(SERVER),
+                () -> assertThat(interests.get("b")).isEmpty(),
+                () -> assertThat(interests.get("c")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("사용자 항목을 비우면 다음 조회 때 그 사용자만 다시 읽는다.")
+    public void invalidate_reloadsUid() {
+        //given
+        MemberJobInterestCache cache = new MemberJobInterestCache(60, 100);
+        cache.getAll(Arrays.asList("a", "b"), uids -> Collections.emptyMap());
+        List<Set<String>> loadedUids = new ArrayList<>();
+
+        //when
+        cache.invalidate("a");
+        Map<String, List<JobInterest>> interests = cache.getAll(Arrays.asList("a", "b"), uids -> {
+            loadedUids.add(new HashSet<>(uids));
+            return Collections.singletonMap("a", Collections.singletonList(SERVER));
+        });
+
+        //then
+        assertAll(
+                () -> assertThat(loadedUids).containsExactly(Collections.singleton("a")),
+                () -> assertThat(interests.get("a")).containsExactly(SERVER)
+        );
+    }
+
+    @Test
+    @DisplayName("읽는 동안 사용자 항목이 비워지면 읽은 목록을 돌려주기만 하고 캐시하지 않는다.")
+    public void getAll_invalidatedWhileLoading_notStored() {
+        //given
+        MemberJobInterestCache cache = new MemberJobInterestCache(60, 100);
+        List<Set<String>> loadedUids = new ArrayList<>();
+
+        //when
+        Map<String, List<JobInterest>> interests = cache.getAll(Collections.singletonList("a"), uids -> {
+            cache.invalidate("a");
+            return Collections.singletonMap("a", Collections.singletonList(SERVER));
+        });
+        cache.getAll(Collections.singletonList("a"), uids -> {
+            loadedUids.add(new HashSet<>(uids));
+            return Collections.emptyMap();
+        });
+
+        //then
+        assertAll(
+                () -> assertThat(interests.get("a")).containsExactly(SERVER),
+                () -> assertThat(loadedUids).containsExactly(Collections.singleton("a"))
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package com.eroom.erooja.features.membergoal;
+
+import com.eroom.erooja.common.counter.WriteBehindCounter;
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.membergoal.dto.GoalJoinRequestDTO;
+import com.eroom.erooja.features.membergoal.service.MemberGoalService;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 목표에 여러 사용자가 동시에 참여할 때의 지연 시간과 참여 인원 정확도 측정.
+ * 참여 흐름 전체(참여 행 upsert, 할 일 배치 INSERT, 참여 인원 증가분)와, 비교용으로 목표 행을 읽고 더해 저장하는 기존 카운터 갱신을 같은 동시성으로 실행한다.
+ * 기본 참여자 1000명, 스레드 4개이며 -Dbenchmark.joiners=N -Dbenchmark.threads=T 로 조절할 수 있다.
+ * hibernate_sequence 채번은 트랜잭션과 별도의 커넥션을 쓰므로 스레드 수는 커넥션 풀 크기(기본 10)의 절반 이하로 둔다.
+ *   mvn test -Dtest=MemberGoalJoinLoadLocalTests -Dbenchmark.joiners=1000 -Dbenchmark.threads=4
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MemberGoalJoinLoadLocalTests {
+    private static final Logger logger = LoggerFactory.getLogger(MemberGoalJoinLoadLocalTests.class);
+
+    private static final int JOINERS = Integer.getInteger("benchmark.joiners", 1_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 4);
+    private static final int TODOS_PER_JOIN = 5;
+
+    private final MemberGoalService memberGoalService;
+    private final WriteBehindCounter writeBehindCounter;
+    private final GoalRepository goalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberGoalFixtures memberGoalFixtures;
+
+    private Long goalId;
+    private Long counterGoalId;
+
+    @BeforeAll
+    public void setUpJoiners() {
+        goalId = memberGoalFixtures.createGoal("동시 참여 벤치마크").getId();
+        counterGoalId = memberGoalFixtures.createGoal("동시 참여 벤치마크").getId();
+        memberGoalFixtures.createMembers(joinerUids());
+    }
+
+    @AfterAll
+    public void tearDownJoiners() {
+        writeBehindCounter.flush();
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteGoal(counterGoalId);
+        memberGoalFixtures.deleteMembers(joinerUids());
+    }
+
+    @Test
+    @DisplayName("한 목표에 동시 참여 - 참여 흐름 지연 시간과 참여 인원 정확도")
+    public void concurrentJoins() throws Exception {
+        AtomicInteger statements = new AtomicInteger();
+        long[] elapsed = run(index -> {
+            QueryStats stats = QueryCountAssertions.countQueries(
+                    () -> memberGoalService.joinExistGoal(uidOf(index), GoalRole.PARTICIPANT, joinRequest()));
+            statements.addAndGet(stats.getStatementCount());
+        });
+        writeBehindCounter.flush();
+
+        report("upsert 참여 흐름", elapsed, joinCountOf(goalId), statements.get() / (double) JOINERS);
+    }
+
+    @Test
+    @DisplayName("비교용 - 목표 행을 읽고 더해 저장하는 참여 인원 갱신")
+    public void concurrentReadModifyWrite() throws Exception {
+        long[] elapsed = run(index -> transactionTemplate.execute(status -> {
+            Goal goal = goalRepository.findById(counterGoalId).get();
+            goal.increaseJoinCount(1);
+            return goalRepository.save(goal);
+        }));
+
+        report("읽고 더해 저장", elapsed, joinCountOf(counterGoalId), 2.0);
+    }
+
+    private long[] run(Join join) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long[] elapsed = new long[JOINERS];
+        List<Future<?>> futures = new ArrayList<>(JOINERS);
+        for (int i = 0; i < JOINERS; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    join.run(index);
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+                elapsed[index] = System.nanoTime() - startedAt;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long total = System.nanoTime() - startedAt;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        logger.info("참여 {}건, 스레드 {}개 - 전체 {}ms", JOINERS, THREADS, total / 1_000_000);
+        return elapsed;
+    }
+
+    private void report(String name, long[] elapsed, int joinCount, double statementsPerJoin) {
+        Arrays.sort(elapsed);
+        logger.info("[{}] 참여 인원 {} (기대값 {}), 참여당 쿼리 {}건, p50 {}ms, p95 {}ms", name, joinCount, JOINERS + 1,
+                statementsPerJoin, elapsed[JOINERS / 2] / 1_000_000.0, elapsed[JOINERS * 95 / 100] / 1_000_000.0);
+    }
+
+    private int joinCountOf(long goalId) {
+        return jdbcTemplate.queryForObject("SELECT join_count FROM goal WHERE id = ?", Integer.class, goalId);
+    }
+
+    private GoalJoinRequestDTO joinRequest() {
+        List<AddTodoDTO> todos = new ArrayList<>(TODOS_PER_JOIN);
+        for (int priority = 0; priority < TODOS_PER_JOIN; priority++) {
+            todos.add(AddTodoDTO.builder().content("할 일 " + priority).priority(priority).build());
+        }
+
+        return GoalJoinRequestDTO.builder()
+                .goalId(goalId)
+                .endDt(LocalDateTime.now().plusDays(7))
+                .todoList(todos).build();
+    }
+
+    private static List<String> joinerUids() {
+        List<String> uids = new ArrayList<>(JOINERS);
+        for (int i = 0; i < JOINERS; i++) {
+            uids.add(uidOf(i));
+        }
+        return uids;
+    }
+
+    private static String uidOf(int index) {
+        return String.format("joinLoad%06d", index);
+    }
+
+    @FunctionalInterface
+    private interface Join {
+        void run(int index) throws Throwable;
+    }
+}
@@ -0,0 +1,130 @@
+package com.eroom.erooja.features.membergoal;
+
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import com.eroom.erooja.features.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 참여자가 수천 명인 목표의 참여자별 할 일 목록 지연 시간 측정.
+ * 참여자마다 할 일을 따로 읽는 방식과 참여자 페이지 -> 할 일 IN 쿼리 두 단계로 읽는 방식을 비교한다.
+ * 기본 참여자 5000명, 참여자당 할 일 5개이며 -Dbenchmark.participants=N 으로 참여자 수를 조절할 수 있다.
+ *   mvn test -Dtest=MemberGoalTodoListBenchmarkLocalTests -Dbenchmark.participants=5000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MemberGoalTodoListBenchmarkLocalTests {
+    private static final Logger logger = LoggerFactory.getLogger(MemberGoalTodoListBenchmarkLocalTests.class);
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 5_000);
+    private static final int TODOS_PER_PARTICIPANT = 5;
+    private static final int[] PAGE_SIZES = {20, 100};
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MemberGoalRepository memberGoalRepository;
+    private final TodoRepository todoRepository;
+    private final MemberGoalFixtures memberGoalFixtures;
+
+    private Long goalId;
+
+    @BeforeAll
+    public void setUpParticipants() {
+        goalId = memberGoalFixtures.createGoal("참여자 벤치마크").getId();
+        List<String> contents = new ArrayList<>(TODOS_PER_PARTICIPANT);
+        for (int priority = 0; priority < TODOS_PER_PARTICIPANT; priority++) {
+            contents.add("할 일 " + priority);
+        }
+
+        List<String> uids = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            uids.add(uidOf(i));
+            if (uids.size() == INSERT_BATCH_SIZE || i == PARTICIPANTS - 1) {
+                memberGoalFixtures.createMembers(uids);
+                memberGoalFixtures.addTodos(memberGoalFixtures.joinAll(uids, goalId, GoalRole.PARTICIPANT), contents);
+                uids.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    public void tearDownParticipants() {
+        memberGoalFixtures.deleteGoal(goalId);
+        List<String> uids = new ArrayList<>(PARTICIPANTS);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            uids.add(uidOf(i));
+        }
+        memberGoalFixtures.deleteMembers(uids);
+    }
+
+    @Test
+    @DisplayName("참여자별 할 일 목록 - 참여자별 조회 vs 두 단계 조회")
+    public void joinTodoList() {
+        for (int pageSize : PAGE_SIZES) {
+            int lastPage = (PARTICIPANTS - 1) / pageSize;
+            for (int page : new int[]{0, lastPage / 2, lastPage}) {
+                Pageable pageable = PageRequest.of(page, pageSize);
+                measure("참여자별 조회", pageable, () -> perParticipant(pageable));
+                measure("두 단계 조회", pageable, () -> memberGoalRepository.getJoinTodoListByGoalId(goalId, pageable));
+            }
+        }
+    }
+
+    /* 참여자 페이지를 읽은 뒤 참여자마다 할 일을 따로 읽는 기존 방식 */
+    private Object perParticipant(Pageable pageable) {
+        List<Object> todoLists = new ArrayList<>();
+        for (MemberGoal join : memberGoalRepository.findAllByGoalId(goalId, pageable)) {
+            todoLists.add(todoRepository.findAllByMemberGoal_GoalIdAndMemberGoal_Uid(goalId, join.getUid()));
+        }
+        return todoLists;
+    }
+
+    private void measure(String name, Pageable pageable, Supplier<?> loader) {
+        for (int i = 0; i < WARM_UP; i++) {
+            transactionTemplate.execute(status -> loader.get());
+        }
+
+        QueryStats stats = null;
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            try {
+                stats = QueryCountAssertions.countQueries(() -> transactionTemplate.execute(status -> loader.get()));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(elapsed);
+        logger.info("[{}] 참여자 {}명, 페이지 {} (크기 {}) - 쿼리 {}건, p50 {}ms, p95 {}ms", name, PARTICIPANTS,
+                pageable.getPageNumber(), pageable.getPageSize(), stats.getStatementCount(),
+                elapsed[ITERATIONS / 2] / 1_000_000.0, elapsed[ITERATIONS * 95 / 100] / 1_000_000.0);
+    }
+
+    private static String uidOf(int index) {
+        return String.format("todoBenchmark%06d", index);
+    }
+}
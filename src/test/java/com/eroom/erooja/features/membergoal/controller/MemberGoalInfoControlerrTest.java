@@ -104,6 +104,9 @@ public class MemberGoalInfoControlerrTest {
                                 fieldWithPath("role").description("목표참여 역할 (OWNER/PARTICIPANT)"),
                                 fieldWithPath("isEnd").description("목표참여 종료여부"),
                                 fieldWithPath("copyCount").description("사용자들이 담아간 횟수"),
+                                fieldWithPath("todoTotal").description("할 일 수"),
+                                fieldWithPath("todoDone").description("완료한 할 일 수"),
+                                fieldWithPath("checkedTodoRate").description("할 일 달성률 (0~1)"),
                                 fieldWithPath("createDt").description("참여날짜"),
                                 fieldWithPath("updateDt").description("참여수정날짜")
                         )
@@ -111,6 +111,7 @@ public class MemberGoalJoinControllerTest {
         GoalJoinRequestDTO goalJoinRequest = GoalJoinRequestDTO.builder()
                 .goalId(goal.getId())
                 .ownerUid(existMemberGoal.getUid())
+                .isCopyTodo(false)
                 .endDt(endDt)
                 .todoList(todoDTOList).build();
 
@@ -146,10 +147,11 @@ public class MemberGoalJoinControllerTest {
                         requestFields(
                                 fieldWithPath("goalId").description("새 목표명"),
                                 fieldWithPath("ownerUid").description("(nullable) 목표담기 복사한 대상 uid"),
+                                fieldWithPath("isCopyTodo").description("(nullable) true 이면 todoList 없이 ownerUid 의 할일을 서버에서 복사한다"),
                                 fieldWithPath("endDt").description("종료일자"),
-                                fieldWithPath("todoList[]").description("달성할리스트"),
+                                fieldWithPath("todoList[]").description("달성할리스트 (isCopyTodo 가 true 이면 생략 가능)"),
                                 fieldWithPath("todoList[].content").description("달성할리스트 내용"),
-                                fieldWithPath("todoList[].priority").description("달성할리스트 우선순위(0,1,2 ... 순서대로 요청한다)")
+                                fieldWithPath("todoList[].priority").description("달성할리스트 우선순위(앞에서부터 커지는 값으로 요청한다. 0,1,2 ... 나 조회한 값을 그대로 보내도 된다)")
                         ),
                         relaxedResponseFields(
                                 fieldWithPath("goalId").description("목표 구분값"),
@@ -134,6 +134,7 @@ public class MemberGoalTodoListControllerTest {
                                 fieldWithPath("content[].endDt").description("목표참여 종료일"),
                                 fieldWithPath("content[].isEnd").description("목표참여 종료여부"),
                                 fieldWithPath("content[].copyCount").description("사용자들이 담아간 횟수"),
+                                fieldWithPath("content[].checkedTodoRate").description("할 일 달성률 (0~1)"),
                                 fieldWithPath("content[].isEnd").description("목표참여 종료여부"),
                                 fieldWithPath("content[].todoList[]").description("달성할리스트")
                         )
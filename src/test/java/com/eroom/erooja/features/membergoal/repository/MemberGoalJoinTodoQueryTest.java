@@ -0,0 +1,128 @@
+package com.eroom.erooja.features.membergoal.repository;
+
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.*;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.membergoal.dto.GoalJoinTodoDto;
+import com.eroom.erooja.features.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MemberGoalJoinTodoQueryTest {
+    private static final int PARTICIPANTS = 7;
+    private static final int TODOS_PER_PARTICIPANT = 3;
+
+    private final MemberGoalRepository memberGoalRepository;
+    private final GoalRepository goalRepository;
+    private final TodoRepository todoRepository;
+    private final MemberRepository memberRepository;
+    private final MemberAuthRepository memberAuthRepository;
+    private final EntityManager entityManager;
+
+    @Test
+    @DisplayName("참여자 페이지와 할 일을 각각 한 번씩 읽고, 할 일은 우선순위 순으로 담는다.")
+    public void getJoinTodoListByGoalId_twoPhaseFetch() throws Throwable {
+        //given
+        Long goalId = saveGoalWithParticipants();
+        AtomicReference<Page<GoalJoinTodoDto>> firstPage = new AtomicReference<>();
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> firstPage.set(
+                memberGoalRepository.getJoinTodoListByGoalId(goalId, PageRequest.of(0, 5, Sort.by("uid")))));
+        Page<GoalJoinTodoDto> lastPage = memberGoalRepository.getJoinTodoListByGoalId(goalId, PageRequest.of(1, 5, Sort.by("uid")));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isEqualTo(3),
+                () -> assertThat(firstPage.get().getTotalElements()).isEqualTo(PARTICIPANTS),
+                () -> assertThat(firstPage.get().getContent()).extracting(GoalJoinTodoDto::getUid)
+                        .containsExactly("todoUid0", "todoUid1", "todoUid2", "todoUid3", "todoUid4"),
+                () -> assertThat(firstPage.get().getContent()).allMatch(join ->
+                        join.getTodoList().stream().map(Todo::getPriority).collect(Collectors.toList())
+                                .equals(Arrays.asList(0, 1, 2))),
+                () -> assertThat(lastPage.getContent()).hasSize(PARTICIPANTS - 5),
+                () -> assertThat(lastPage.getTotalElements()).isEqualTo(PARTICIPANTS)
+        );
+    }
+
+    @Test
+    @DisplayName("참여자 슬라이스는 카운트 쿼리 없이 두 번의 쿼리로 읽는다.")
+    public void getJoinTodoSliceByGoalId_withoutCount() throws Throwable {
+        //given
+        Long goalId = saveGoalWithParticipants();
+        AtomicReference<Slice<GoalJoinTodoDto>> slice = new AtomicReference<>();
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> slice.set(
+                memberGoalRepository.getJoinTodoSliceByGoalId(goalId, PageRequest.of(0, 5, Sort.by("uid")))));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isEqualTo(2),
+                () -> assertThat(slice.get().hasNext()).isTrue(),
+                () -> assertThat(slice.get().getContent()).allMatch(join -> join.getTodoList().size() == TODOS_PER_PARTICIPANT)
+        );
+    }
+
+    private Long saveGoalWithParticipants() {
+        Goal goal = goalRepository.save(Goal.builder()
+                .title("참여자 할 일")
+                .isDateFixed(false)
+                .isEnd(false).build());
+
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            String uid = "todoUid" + i;
+            MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid(uid).build());
+            memberRepository.save(Members.builder()
+                    .uid(uid)
+                    .nickname("todoNickname" + i)
+                    .memberAuth(memberAuth).build());
+
+            MemberGoal memberGoal = memberGoalRepository.save(MemberGoal.builder()
+                    .uid(uid)
+                    .goalId(goal.getId())
+                    .role(GoalRole.PARTICIPANT)
+                    .endDt(LocalDateTime.now().plusDays(1))
+                    .isEnd(false).build());
+
+            for (int priority = TODOS_PER_PARTICIPANT - 1; priority >= 0; priority--) {
+                Todo todo = Todo.builder()
+                        .content("할 일 " + priority)
+                        .isEnd(false)
+                        .priority(priority).build();
+                todo.setMemberGoal(memberGoal);
+                todoRepository.save(todo);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return goal.getId();
+    }
+}
@@ -0,0 +1,218 @@
+package com.eroom.erooja.features.membergoal.service;
+
+import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.counter.WriteBehindCounter;
+import com.eroom.erooja.common.exception.EroojaException;
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.features.goal.trend.GoalTrendCounter;
+import com.eroom.erooja.features.membergoal.dto.GoalJoinRequestDTO;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "counterProperties.flushIntervalMillis=3600000")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MemberGoalJoinServiceTest {
+    private static final String UID = "joinServiceUid";
+    private static final String OWNER_UID = "joinServiceOwnerUid";
+
+    private final MemberGoalService memberGoalService;
+    private final WriteBehindCounter writeBehindCounter;
+    private final GoalTrendCounter goalTrendCounter;
+    private final MemberGoalFixtures memberGoalFixtures;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long goalId;
+
+    @BeforeEach
+    void setUp() {
+        goalId = memberGoalFixtures.createGoal("참여 목표").getId();
+        memberGoalFixtures.createMembers(Arrays.asList(UID, OWNER_UID));
+        writeBehindCounter.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindCounter.clear();
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Arrays.asList(UID, OWNER_UID));
+    }
+
+    @Test
+    @DisplayName("새로 참여하면 참여 행과 할 일을 각각 한 번에 넣고 참여 인원을 1 늘린다.")
+    public void joinExistGoal_newJoin() throws Throwable {
+        //given
+        GoalJoinRequestDTO request = joinRequestOf("할 일 1", "할 일 2", "할 일 3");
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(
+                () -> memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, request));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getRepeatedShapes(2).keySet())
+                        .noneMatch(shape -> shape.startsWith("insert into todo") || shape.contains("member_goal")),
+                () -> assertThat(roleOf(UID)).isEqualTo(GoalRole.PARTICIPANT.name()),
+                () -> assertThat(todoContents()).containsExactly("할 일 1", "할 일 2", "할 일 3"),
+                () -> assertThat(writeBehindCounter.pendingJoinCount(goalId)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("이미 참여한 목표에 다시 참여하면 역할은 유지하고 할 일만 바꾸며 참여 인원은 늘리지 않는다.")
+    public void joinExistGoal_rejoin_keepsRole() {
+        //given
+        memberGoalService.joinExistGoal(UID, GoalRole.OWNER, joinRequestOf("이전 할 일"));
+        jdbcTemplate.update("UPDATE member_goal SET is_end = true WHERE uid = ? AND goal_id = ?", UID, goalId);
+        writeBehindCounter.clear();
+
+        //when
+        MemberGoal memberGoal = memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, joinRequestOf("새 할 일 1", "새 할 일 2"));
+
+        //then
+        assertAll(
+                () -> assertThat(memberGoal.getRole()).isEqualTo(GoalRole.OWNER),
+                () -> assertThat(memberGoal.getIsEnd()).isFalse(),
+                () -> assertThat(roleOf(UID)).isEqualTo(GoalRole.OWNER.name()),
+                () -> assertThat(todoContents()).containsExactly("새 할 일 1", "새 할 일 2"),
+                () -> assertThat(writeBehindCounter.pendingJoinCount(goalId)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("복사 모드로 참여하면 소유자의 할 일을 INSERT ... SELECT 한 번으로 미완료 상태로 복사하고 담아간 횟수를 늘린다.")
+    public void joinExistGoal_copyOwnerTodo() throws Throwable {
+        //given
+        GoalJoinRequestDTO ownerRequest = joinRequestOf("소유자 할 일 1", "소유자 할 일 2", "소유자 할 일 3");
+        memberGoalService.joinExistGoal(OWNER_UID, GoalRole.OWNER, ownerRequest);
+        jdbcTemplate.update("UPDATE todo SET is_end = true WHERE uid = ? AND goal_id = ?", OWNER_UID, goalId);
+        writeBehindCounter.clear();
+
+        GoalJoinRequestDTO request = GoalJoinRequestDTO.builder()
+                .goalId(goalId)
+                .ownerUid(OWNER_UID)
+                .isCopyTodo(true)
+                .endDt(LocalDateTime.now().plusDays(7)).build();
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(
+                () -> memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, request));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getRepeatedShapes(1).keySet().stream()
+                        .filter(shape -> shape.startsWith("insert into todo"))).hasSize(1),
+                () -> assertThat(stats.getRepeatedShapes(2).keySet()).noneMatch(shape -> shape.startsWith("insert into todo")),
+                () -> assertThat(todoContents()).containsExactly("소유자 할 일 1", "소유자 할 일 2", "소유자 할 일 3"),
+                () -> assertThat(jdbcTemplate.queryForMap("SELECT todo_total, todo_done FROM member_goal " +
+                        "WHERE uid = ? AND goal_id = ?", UID, goalId))
+                        .containsEntry("TODO_TOTAL", 3).containsEntry("TODO_DONE", 0),
+                () -> assertThat(writeBehindCounter.pendingCopyCount(OWNER_UID, goalId)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("할 일이 잘못되어 참여가 롤백되면 참여 인원과 추세에 세지 않는다.")
+    public void joinExistGoal_rolledBack_notCounted() {
+        //given
+        double scoreBeforeJoin = goalTrendCounter.score(Collections.singletonList(goalId)).get(goalId);
+        GoalJoinRequestDTO request = GoalJoinRequestDTO.builder()
+                .goalId(goalId)
+                .endDt(LocalDateTime.now().plusDays(7))
+                .todoList(Arrays.asList(
+                        AddTodoDTO.builder().content("할 일 1").priority(1).build(),
+                        AddTodoDTO.builder().content("할 일 2").priority(1).build())).build();
+
+        //when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, request))
+                        .isInstanceOf(EroojaException.class),
+                () -> assertThat(goalTrendCounter.score(Collections.singletonList(goalId)).get(goalId)).isEqualTo(scoreBeforeJoin),
+                () -> assertThat(writeBehindCounter.pendingJoinCount(goalId)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("소유자의 할 일이 없으면 복사 모드 참여를 거절하고 참여 행을 남기지 않는다.")
+    public void joinExistGoal_copyEmptyOwnerTodo_rejected() {
+        //given
+        memberGoalFixtures.join(OWNER_UID, goalId, GoalRole.OWNER);
+
+        //when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, copyRequestOf(OWNER_UID)))
+                        .isInstanceOf(EroojaException.class)
+                        .hasFieldOrPropertyWithValue("errorEnum", ErrorEnum.GOAL_JOIN_COPY_EMPTY_TODO),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_goal WHERE uid = ? AND goal_id = ?",
+                        Integer.class, UID, goalId)).isZero(),
+                () -> assertThat(writeBehindCounter.pendingJoinCount(goalId)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("자신의 할 일을 복사해 다시 참여하면 기존 할 일을 지우지 않고 거절한다.")
+    public void joinExistGoal_copyOwnTodo_rejected() {
+        //given
+        memberGoalService.joinExistGoal(UID, GoalRole.OWNER, joinRequestOf("할 일 1", "할 일 2"));
+
+        //when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> memberGoalService.joinExistGoal(UID, GoalRole.PARTICIPANT, copyRequestOf(UID)))
+                        .isInstanceOf(EroojaException.class)
+                        .hasFieldOrPropertyWithValue("errorEnum", ErrorEnum.GOAL_JOIN_COPY_OWN_TODO),
+                () -> assertThat(todoContents()).containsExactly("할 일 1", "할 일 2")
+        );
+    }
+
+    private GoalJoinRequestDTO copyRequestOf(String ownerUid) {
+        return GoalJoinRequestDTO.builder()
+                .goalId(goalId)
+                .ownerUid(ownerUid)
+                .isCopyTodo(true)
+                .endDt(LocalDateTime.now().plusDays(7)).build();
+    }
+
+    private GoalJoinRequestDTO joinRequestOf(String... contents) {
+        AddTodoDTO[] todos = new AddTodoDTO[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            todos[i] = AddTodoDTO.builder().content(contents[i]).priority(i).build();
+        }
+
+        return GoalJoinRequestDTO.builder()
+                .goalId(goalId)
+                .endDt(LocalDateTime.now().plusDays(7))
+                .todoList(Arrays.asList(todos)).build();
+    }
+
+    private String roleOf(String uid) {
+        return jdbcTemplate.queryForObject("SELECT role FROM member_goal WHERE uid = ? AND goal_id = ?", String.class, uid, goalId);
+    }
+
+    private List<String> todoContents() {
+        return jdbcTemplate.queryForList("SELECT content FROM todo WHERE uid = ? AND goal_id = ? ORDER BY priority",
+                String.class, UID, goalId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.eroom.erooja.features.membergoal.service;
+
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.enums.JobInterestType;
+import com.eroom.erooja.domain.model.*;
+import com.eroom.erooja.domain.repos.JobInterestRepository;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.goaljobinterest.repository.GoalJobInterestRepository;
+import com.eroom.erooja.features.membergoal.dto.GoalJoinMemberDTO;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MemberGoalPageStatementCountTest {
+    private static final String UID = "myGoalsUid";
+
+    private final MemberGoalService memberGoalService;
+    private final GoalRepository goalRepository;
+    private final GoalJobInterestRepository goalJobInterestRepository;
+    private final JobInterestRepository jobInterestRepository;
+    private final MemberGoalRepository memberGoalRepository;
+    private final MemberRepository memberRepository;
+    private final MemberAuthRepository memberAuthRepository;
+    private final EntityManager entityManager;
+
+    @Test
+    @DisplayName("내 목표 목록은 페이지 크기와 관계없이 같은 수의 쿼리로 목표와 직무 관심사를 조회한다.")
+    public void getGoalJoinPage_statementCount_isConstantPerPage() throws Throwable {
+        //given
+        saveJoinedGoals(10, false);
+
+        //when
+        QueryStats smallPage = countQueries(pageable -> memberGoalService.getGoalJoinPageByUid(UID, pageable), 2);
+        AtomicReference<Page<GoalJoinMemberDTO>> largePage = new AtomicReference<>();
+        QueryStats largePageStats = countQueries(pageable -> {
+            largePage.set(memberGoalService.getGoalJoinPageByUid(UID, pageable));
+            return largePage.get();
+        }, 10);
+
+        //then
+        assertAll(
+                () -> assertThat(largePage.get().getContent()).hasSize(10),
+                () -> assertThat(largePage.get().getContent())
+                        .allMatch(join -> join.getMinimalGoalDetail().getJobInterests().size() == 2),
+                () -> assertThat(largePageStats.getStatementCount()).isEqualTo(smallPage.getStatementCount()),
+                () -> assertThat(largePageStats.getMaxRepeat()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("종료된 내 목표 목록도 페이지 크기와 관계없이 같은 수의 쿼리로 조회한다.")
+    public void getEndedGoalJoinPage_statementCount_isConstantPerPage() throws Throwable {
+        //given
+        saveJoinedGoals(10, true);
+
+        //when
+        QueryStats smallPage = countQueries(pageable -> memberGoalService.getEndedGoalJoinPageByUid(UID, pageable), 2);
+        QueryStats largePage = countQueries(pageable -> memberGoalService.getEndedGoalJoinPageByUid(UID, pageable), 10);
+
+        //then
+        assertAll(
+                () -> assertThat(largePage.getStatementCount()).isEqualTo(smallPage.getStatementCount()),
+                () -> assertThat(largePage.getMaxRepeat()).isEqualTo(1)
+        );
+    }
+
+    private QueryStats countQueries(Function<PageRequest, Page<GoalJoinMemberDTO>> pageLoader, int pageSize) throws Throwable {
+        entityManager.clear();
+        return QueryCountAssertions.countQueries(() -> pageLoader.apply(PageRequest.of(0, pageSize)));
+    }
+
+    private void saveJoinedGoals(int goalCount, boolean isEnd) {
+        MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid(UID).build());
+        memberRepository.save(Members.builder()
+                .uid(UID)
+                .nickname("myGoalsNickname")
+                .memberAuth(memberAuth).build());
+
+        JobInterest jobGroup = jobInterestRepository.save(JobInterest.builder()
+                .name("개발")
+                .jobInterestType(JobInterestType.JOB_GROUP).build());
+        JobInterest server = jobInterestRepository.save(JobInterest.builder()
+                .name("서버")
+                .jobInterestType(JobInterestType.JOB_INTEREST)
+                .jobGroup(jobGroup).build());
+        JobInterest web = jobInterestRepository.save(JobInterest.builder()
+                .name("웹")
+                .jobInterestType(JobInterestType.JOB_INTEREST)
+                .jobGroup(jobGroup).build());
+
+        LocalDateTime endDt = isEnd ? LocalDateTime.now().minusDays(1) : LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < goalCount; i++) {
+            Goal goal = goalRepository.save(Goal.builder()
+                    .title("내 목표 " + i)
+                    .description("description")
+                    .startDt(LocalDateTime.now().minusDays(2))
+                    .endDt(endDt)
+                    .isDateFixed(false)
+                    .isEnd(false)
+                    .joinCount(1).build());
+            goalJobInterestRepository.save(GoalJobInterest.builder().goal(goal).jobInterest(server).build());
+            goalJobInterestRepository.save(GoalJobInterest.builder().goal(goal).jobInterest(web).build());
+
+            memberGoalRepository.save(MemberGoal.builder()
+                    .uid(UID)
+                    .goalId(goal.getId())
+                    .role(GoalRole.OWNER)
+                    .startDt(LocalDateTime.now().minusDays(2))
+                    .endDt(endDt)
+                    .isEnd(isEnd).build());
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,123 @@
+package com.eroom.erooja.features.todo;
+
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import com.eroom.erooja.features.todo.service.TodoService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 할 일 50개 목록을 addTodo 로 넣을 때의 초당 저장 행 수 측정.
+ * pooled_id 로 id 를 블록 단위로 받아 JDBC 배치로 넣는 현재 방식과, 비교용으로 행마다 hibernate_sequence 를 왕복하고
+ * 한 건씩 INSERT 하던 기존 방식(GenerationType.AUTO)을 같은 트랜잭션 단위로 재현해 비교한다.
+ * 메모리 H2 는 왕복 비용이 거의 없으므로, 쿼리 수에 -Dbenchmark.rttMillis(기본 0.5ms) 왕복 시간을 더한 추정 초당 행 수도 함께 남긴다.
+ * 기본 목록 200개이며 -Dbenchmark.lists=N 으로 목록 수를 조절할 수 있다.
+ *   mvn test -Dtest=TodoAddBenchmarkLocalTests -Dbenchmark.lists=200 -Dbenchmark.rttMillis=0.5
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TodoAddBenchmarkLocalTests {
+    private static final Logger logger = LoggerFactory.getLogger(TodoAddBenchmarkLocalTests.class);
+
+    private static final int LISTS = Integer.getInteger("benchmark.lists", 200);
+    private static final int TODOS_PER_LIST = 50;
+    private static final double RTT_MILLIS = Double.parseDouble(System.getProperty("benchmark.rttMillis", "0.5"));
+    private static final int WARM_UP = 50;
+    private static final String UID = "todoAddBenchmark";
+
+    private final TodoService todoService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberGoalFixtures memberGoalFixtures;
+
+    private Long goalId;
+
+    @BeforeAll
+    public void setUpParticipation() {
+        goalId = memberGoalFixtures.createGoal("할 일 추가 벤치마크").getId();
+        memberGoalFixtures.createMember(UID);
+        memberGoalFixtures.join(UID, goalId, GoalRole.OWNER);
+    }
+
+    @AfterAll
+    public void tearDownParticipation() {
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Collections.singletonList(UID));
+    }
+
+    @Test
+    @DisplayName("할 일 50개 목록 추가 - pooled id + 배치 INSERT vs 행마다 채번 + 한 건씩 INSERT")
+    public void addTodo() {
+        Runnable pooled = () -> todoService.addTodo(UID, goalId, todoList());
+        Runnable rowByRow = () -> transactionTemplate.execute(status -> insertRowByRow());
+        for (int i = 0; i < WARM_UP; i++) {
+            pooled.run();
+            rowByRow.run();
+        }
+
+        measure("pooled id + 배치 INSERT", pooled);
+        measure("행마다 채번 + 한 건씩 INSERT", rowByRow);
+    }
+
+    /* GenerationType.AUTO 일 때처럼 행마다 hibernate_sequence 를 읽고 올린 뒤 한 건씩 INSERT 한다. */
+    private Object insertRowByRow() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int priority = 0; priority < TODOS_PER_LIST; priority++) {
+            Long id = jdbcTemplate.queryForObject("SELECT next_val FROM hibernate_sequence FOR UPDATE", Long.class);
+            jdbcTemplate.update("UPDATE hibernate_sequence SET next_val = ? WHERE next_val = ?", id + 1, id);
+            jdbcTemplate.update("INSERT INTO todo (id, content, is_end, priority, uid, goal_id, create_dt, update_dt) " +
+                    "VALUES (?, ?, false, ?, ?, ?, ?, ?)", id, "할 일 " + priority, priority, UID, goalId, now, now);
+        }
+        return null;
+    }
+
+    private void measure(String name, Runnable addList) {
+        int statements = 0;
+        long[] elapsed = new long[LISTS];
+        for (int i = 0; i < LISTS; i++) {
+            long startedAt = System.nanoTime();
+            try {
+                QueryStats stats = QueryCountAssertions.countQueries(addList::run);
+                statements += stats.getStatementCount();
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+
+        double totalMillis = Arrays.stream(elapsed).sum() / 1_000_000.0;
+        double withRttMillis = totalMillis + statements * RTT_MILLIS;
+        Arrays.sort(elapsed);
+        logger.info("[{}] 목록 {}개 x 할 일 {}개 - 초당 {}행 (왕복 {}ms 가정 시 {}행), 목록당 쿼리 {}건, p50 {}ms, p95 {}ms",
+                name, LISTS, TODOS_PER_LIST, Math.round(LISTS * TODOS_PER_LIST * 1000 / totalMillis),
+                RTT_MILLIS, Math.round(LISTS * TODOS_PER_LIST * 1000 / withRttMillis), statements / (double) LISTS,
+                elapsed[LISTS / 2] / 1_000_000.0, elapsed[LISTS * 95 / 100] / 1_000_000.0);
+    }
+
+    private static List<AddTodoDTO> todoList() {
+        List<AddTodoDTO> todos = new ArrayList<>(TODOS_PER_LIST);
+        for (int priority = 0; priority < TODOS_PER_LIST; priority++) {
+            todos.add(AddTodoDTO.builder().content("할 일 " + priority).priority(priority).build());
+        }
+        return todos;
+    }
+}
@@ -5,7 +5,12 @@ import com.eroom.erooja.domain.enums.GoalRole;
 import com.eroom.erooja.domain.model.Goal;
 import com.eroom.erooja.domain.model.MemberGoal;
 import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.auth.jwt.JwtTokenProvider;
+import com.eroom.erooja.features.todo.dto.ChangedTodoStateDTO;
+import com.eroom.erooja.features.todo.dto.ChangedTodoStatesRequestDTO;
+import com.eroom.erooja.features.todo.dto.MoveTodoRequestDTO;
 import com.eroom.erooja.features.todo.service.TodoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,8 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,10 +35,12 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -51,7 +60,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class TodoControllerTest {
     @MockBean
     private TodoService todoService;
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
     private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
 
 
     @Test
@@ -127,4 +139,143 @@ public class TodoControllerTest {
                         )
                 ));
     }
+
+    @Test
+    @DisplayName("할일 위치 이동 (성공)")
+    public void todo_move_success() throws Exception {
+        //given
+        LocalDateTime startDt = LocalDateTime.now();
+        String mockUid = "KAKAO@testId";
+        MoveTodoRequestDTO moveTodoRequest = MoveTodoRequestDTO.builder()
+                .position(1).build();
+
+        Todo movedTodo = Todo.builder()
+                .id(2L)
+                .content("three")
+                .isEnd(false)
+                .priority(Todo.PRIORITY_GAP / 2)
+                .createDt(startDt)
+                .updateDt(startDt).build();
+
+        given(jwtTokenProvider.getUidFromHeader("Bearer [TOKEN]"))
+                .willReturn(mockUid);
+        given(todoService.moveTodo(anyString(), anyLong(), anyInt()))
+                .willReturn(movedTodo);
+
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders
+                .put("/api/v1/todo/{todoId}/position", movedTodo.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(moveTodoRequest))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer [TOKEN]"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("priority").value(Todo.PRIORITY_GAP / 2));
+
+        //Documentation
+        resultActions.andDo(
+                document("todo-move",
+                        requestHeaders(
+                                headerWithName("Authorization").description("jwt 토큰 Bearer type")
+                        ),
+                        pathParameters(
+                                parameterWithName("todoId").description("옮길 할일 구분값")
+                        ),
+                        requestFields(
+                                fieldWithPath("position").description("옮긴 뒤 목록에서의 위치 (0부터)")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("id").description("할일 구분값"),
+                                fieldWithPath("content").description("할일 내용"),
+                                fieldWithPath("isEnd").description("할일 종료여부"),
+                                fieldWithPath("priority").description("할일 우선순위 (정렬용, 이웃 사이의 값을 쓰므로 연속된 값이 아니다)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("여러 할일 완료여부 한 번에 변경 (성공)")
+    public void todo_states_change_success() throws Exception {
+        //given
+        LocalDateTime startDt = LocalDateTime.now();
+        String mockUid = "KAKAO@testId";
+        ChangedTodoStatesRequestDTO changedTodoStatesRequest = ChangedTodoStatesRequestDTO.builder()
+                .todoList(Arrays.asList(
+                        ChangedTodoStateDTO.builder().todoId(0L).isEnd(true).build(),
+                        ChangedTodoStateDTO.builder().todoId(1L).isEnd(false).build())).build();
+
+        List<Todo> changedTodoList = Arrays.asList(
+                Todo.builder()
+                        .id(0L)
+                        .content("fisrt")
+                        .isEnd(true)
+                        .priority(0)
+                        .createDt(startDt)
+                        .updateDt(startDt).build(),
+                Todo.builder()
+                        .id(1L)
+                        .content("two")
+                        .isEnd(false)
+                        .priority(Todo.PRIORITY_GAP)
+                        .createDt(startDt)
+                        .updateDt(startDt).build());
+
+        given(jwtTokenProvider.getUidFromHeader("Bearer [TOKEN]"))
+                .willReturn(mockUid);
+        given(todoService.changeEndStates(anyString(), anyList()))
+                .willReturn(changedTodoList);
+
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders
+                .put("/api/v1/todo/state")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(changedTodoStatesRequest))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer [TOKEN]"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].isEnd").value(true));
+
+        //Documentation
+        resultActions.andDo(
+                document("todo-states-change",
+                        requestHeaders(
+                                headerWithName("Authorization").description("jwt 토큰 Bearer type")
+                        ),
+                        requestFields(
+                                fieldWithPath("todoList[]").description("완료여부를 바꿀 할일 리스트 (최대 100개)"),
+                                fieldWithPath("todoList[].todoId").description("할일 구분값"),
+                                fieldWithPath("todoList[].isEnd").description("바꿀 완료여부")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("[].id").description("할일 구분값"),
+                                fieldWithPath("[].content").description("할일 내용"),
+                                fieldWithPath("[].isEnd").description("할일 종료여부"),
+                                fieldWithPath("[].priority").description("할일 우선순위")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("여러 할일 완료여부 한 번에 변경 (실패 - 100개 초과)")
+    public void todo_states_change_tooMany_badRequest() throws Exception {
+        //given
+        List<ChangedTodoStateDTO> todoList = new ArrayList<>();
+        for (long todoId = 0; todoId < 101; todoId++) {
+            todoList.add(ChangedTodoStateDTO.builder().todoId(todoId).isEnd(true).build());
+        }
+        ChangedTodoStatesRequestDTO changedTodoStatesRequest = ChangedTodoStatesRequestDTO.builder()
+                .todoList(todoList).build();
+
+        given(jwtTokenProvider.getUidFromHeader("Bearer [TOKEN]"))
+                .willReturn("KAKAO@testId");
+
+        //when, then
+        this.mockMvc.perform(RestDocumentationRequestBuilders
+                .put("/api/v1/todo/state")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(changedTodoStatesRequest))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer [TOKEN]"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,113 @@
+package com.eroom.erooja.features.todo.service;
+
+import com.eroom.erooja.common.constants.ErrorEnum;
+import com.eroom.erooja.common.exception.EroojaException;
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import com.eroom.erooja.features.todo.dto.ChangedTodoStateDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TodoEndStatesTest {
+    private static final String UID = "todoStateUid";
+    private static final String OTHER_UID = "todoStateOtherUid";
+
+    private final TodoService todoService;
+    private final MemberGoalFixtures memberGoalFixtures;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long goalId;
+
+    private List<Todo> todos;
+    private List<Todo> otherTodos;
+
+    @BeforeEach
+    void setUp() {
+        goalId = memberGoalFixtures.createGoal("할 일 상태 목표").getId();
+        memberGoalFixtures.createMembers(Arrays.asList(UID, OTHER_UID));
+        memberGoalFixtures.joinAll(Arrays.asList(UID, OTHER_UID), goalId, GoalRole.PARTICIPANT);
+
+        todos = todoService.addTodo(UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("할 일 1").priority(0).build(),
+                AddTodoDTO.builder().content("할 일 2").priority(1).build(),
+                AddTodoDTO.builder().content("할 일 3").priority(2).build(),
+                AddTodoDTO.builder().content("할 일 4").priority(3).build()));
+        todoService.changeEndState(UID, todos.get(2).getId(), true);
+        otherTodos = todoService.addTodo(OTHER_UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("다른 사람 할 일").priority(0).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Arrays.asList(UID, OTHER_UID));
+    }
+
+    @Test
+    @DisplayName("여러 할 일의 완료 여부를 소유 확인 한 번, 상태별 UPDATE 한 번으로 바꾸고 완료 수를 맞춘다.")
+    public void changeEndStates_success() throws Throwable {
+        //given
+        List<ChangedTodoStateDTO> changedStates = Arrays.asList(
+                stateOf(todos.get(0).getId(), true),
+                stateOf(todos.get(1).getId(), true),
+                stateOf(todos.get(2).getId(), false),
+                stateOf(todos.get(3).getId(), false));
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> todoService.changeEndStates(UID, changedStates));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isEqualTo(5),
+                () -> assertThat(jdbcTemplate.queryForList("SELECT is_end FROM todo WHERE uid = ? AND goal_id = ? " +
+                        "ORDER BY priority", Boolean.class, UID, goalId)).containsExactly(true, true, false, false),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT todo_done FROM member_goal WHERE uid = ? AND goal_id = ?",
+                        Integer.class, UID, goalId)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 사람의 할 일이 섞여 있으면 아무것도 바꾸지 않는다.")
+    public void changeEndStates_notOwner_fail() {
+        //given
+        List<ChangedTodoStateDTO> changedStates = Arrays.asList(
+                stateOf(todos.get(0).getId(), true),
+                stateOf(otherTodos.get(0).getId(), true));
+
+        //when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> todoService.changeEndStates(UID, changedStates))
+                        .isInstanceOf(EroojaException.class)
+                        .hasMessage(ErrorEnum.TODO_NOT_OWNER.toString()),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo WHERE goal_id = ? AND is_end = true",
+                        Integer.class, goalId)).isEqualTo(1)
+        );
+    }
+
+    private static ChangedTodoStateDTO stateOf(Long todoId, boolean isEnd) {
+        return ChangedTodoStateDTO.builder()
+                .todoId(todoId)
+                .isEnd(isEnd).build();
+    }
+}
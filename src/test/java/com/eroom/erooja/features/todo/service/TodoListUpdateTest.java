@@ -0,0 +1,157 @@
+package com.eroom.erooja.features.todo.service;
+
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import com.eroom.erooja.features.todo.dto.UpdateTodoDTO;
+import com.eroom.erooja.features.todo.dto.UpdateTodoRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TodoListUpdateTest {
+    private static final String UID = "todoUpdateUid";
+
+    private final TodoService todoService;
+    private final MemberGoalFixtures memberGoalFixtures;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long goalId;
+
+    private List<Todo> todos;
+
+    @BeforeEach
+    void setUp() {
+        goalId = memberGoalFixtures.createGoal("할 일 수정 목표").getId();
+        memberGoalFixtures.createMember(UID);
+        memberGoalFixtures.join(UID, goalId, GoalRole.OWNER);
+
+        todos = todoService.addTodo(UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("할 일 1").priority(0).build(),
+                AddTodoDTO.builder().content("할 일 2").priority(1).build(),
+                AddTodoDTO.builder().content("할 일 3").priority(2).build(),
+                AddTodoDTO.builder().content("할 일 4").priority(3).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Collections.singletonList(UID));
+    }
+
+    @Test
+    @DisplayName("할 일 목록 수정 시 남은 할 일은 id 를 유지한 채 수정하고, 빠진 할 일만 지우고, 새 할 일만 넣는다.")
+    public void updateTodoList_diff() throws Throwable {
+        //given
+        UpdateTodoRequestDTO request = new UpdateTodoRequestDTO(goalId, Arrays.asList(
+                updateOf(todos.get(0).getId(), "수정된 할 일 1", 0, true),
+                updateOf(todos.get(2).getId(), "할 일 3", 1, false),
+                updateOf(null, "새 할 일", 2, false)));
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> todoService.updateTodoList(UID, request));
+
+        //then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, content, is_end FROM todo WHERE uid = ? AND goal_id = ? ORDER BY priority", UID, goalId);
+        assertAll(
+                () -> assertThat(rows).hasSize(3),
+                () -> assertThat(rows.get(0)).containsEntry("ID", todos.get(0).getId())
+                        .containsEntry("CONTENT", "수정된 할 일 1").containsEntry("IS_END", true),
+                () -> assertThat(rows.get(1)).containsEntry("ID", todos.get(2).getId()),
+                () -> assertThat(rows.get(2)).containsEntry("CONTENT", "새 할 일"),
+                () -> assertThat(stats.getRepeatedShapes(2)).isEmpty(),
+                () -> assertThat(jdbcTemplate.queryForMap("SELECT todo_total, todo_done FROM member_goal " +
+                        "WHERE uid = ? AND goal_id = ?", UID, goalId))
+                        .containsEntry("TODO_TOTAL", 3).containsEntry("TODO_DONE", 1)
+        );
+    }
+
+    @Test
+    @DisplayName("바뀐 것이 없는 할 일 목록으로 수정하면 기존 할 일을 읽는 쿼리만 실행된다.")
+    public void updateTodoList_unchanged_onlySelect() throws Throwable {
+        //given
+        UpdateTodoRequestDTO request = new UpdateTodoRequestDTO(goalId, Arrays.asList(
+                updateOf(todos.get(0).getId(), "할 일 1", 0, false),
+                updateOf(todos.get(1).getId(), "할 일 2", 1, false),
+                updateOf(todos.get(2).getId(), "할 일 3", 2, false),
+                updateOf(todos.get(3).getId(), "할 일 4", 3, false)));
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> todoService.updateTodoList(UID, request));
+
+        //then
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회한 우선순위를 그대로 돌려보내 수정해도 통과하고, 순서가 같으면 우선순위를 다시 쓰지 않는다.")
+    public void updateTodoList_storedPriorities_roundTrip() throws Throwable {
+        //given
+        List<UpdateTodoDTO> todoList = new ArrayList<>();
+        for (Todo todo : todos) {
+            todoList.add(updateOf(todo.getId(), todo.getContent(), todo.getPriority(), false));
+        }
+        UpdateTodoRequestDTO request = new UpdateTodoRequestDTO(goalId, todoList);
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> todoService.updateTodoList(UID, request));
+
+        //then
+        assertAll(
+                () -> assertThat(todos).extracting(Todo::getPriority)
+                        .containsExactly(0, Todo.PRIORITY_GAP, Todo.PRIORITY_GAP * 2, Todo.PRIORITY_GAP * 3),
+                () -> assertThat(stats.getStatementCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("할 일 50개를 추가해도 id 는 블록 단위로 받고 INSERT 는 배치 한 번으로 나간다.")
+    public void addTodo_pooledIdAndBatchInsert() throws Throwable {
+        //given
+        List<AddTodoDTO> todoList = new ArrayList<>();
+        for (int priority = 0; priority < 50; priority++) {
+            todoList.add(AddTodoDTO.builder().content("할 일 " + priority).priority(priority).build());
+        }
+
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(() -> todoService.addTodo(UID, goalId, todoList));
+
+        //then
+        assertAll(
+                () -> assertThat(stats.getStatementCount()).isLessThanOrEqualTo(6),
+                () -> assertThat(stats.getRepeatedShapes(2).keySet()).noneMatch(shape -> shape.startsWith("insert into todo")),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT todo_total FROM member_goal WHERE uid = ? AND goal_id = ?",
+                        Integer.class, UID, goalId)).isEqualTo(54)
+        );
+    }
+
+    private static UpdateTodoDTO updateOf(Long todoId, String content, int priority, boolean isEnd) {
+        return UpdateTodoDTO.builder()
+                .todoId(todoId)
+                .content(content)
+                .priority(priority)
+                .isEnd(isEnd).build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.eroom.erooja.features.todo.service;
+
+import com.eroom.erooja.common.exception.EroojaException;
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.common.querycount.QueryCountAssertions;
+import com.eroom.erooja.common.querycount.QueryStats;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "todoProperties.renormalizeIntervalMillis=3600000")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TodoMoveTest {
+    private static final String UID = "todoMoveUid";
+
+    private final TodoService todoService;
+    private final TodoPriorityRenormalizer todoPriorityRenormalizer;
+    private final MemberGoalFixtures memberGoalFixtures;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long goalId;
+
+    private List<Todo> todos;
+
+    @BeforeEach
+    void setUp() {
+        goalId = memberGoalFixtures.createGoal("할 일 이동 목표").getId();
+        memberGoalFixtures.createMember(UID);
+        memberGoalFixtures.join(UID, goalId, GoalRole.OWNER);
+
+        todos = todoService.addTodo(UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("할 일 1").priority(0).build(),
+                AddTodoDTO.builder().content("할 일 2").priority(1).build(),
+                AddTodoDTO.builder().content("할 일 3").priority(2).build(),
+                AddTodoDTO.builder().content("할 일 4").priority(3).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoPriorityRenormalizer.renormalizePending();
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Collections.singletonList(UID));
+    }
+
+    @Test
+    @DisplayName("할 일을 옮기면 이웃 우선순위 사이 값으로 그 할 일 한 행만 바꾼다.")
+    public void moveTodo_updatesOneRow() throws Throwable {
+        //when
+        QueryStats stats = QueryCountAssertions.countQueries(
+                () -> todoService.moveTodo(UID, todos.get(3).getId(), 1));
+
+        //then
+        assertAll(
+                () -> assertThat(orderedContents()).containsExactly("할 일 1", "할 일 4", "할 일 2", "할 일 3"),
+                () -> assertThat(stats.getRepeatedShapes(1).keySet().stream()
+                        .filter(shape -> shape.startsWith("update todo"))).hasSize(1),
+                () -> assertThat(priorityOf(todos.get(3).getId())).isEqualTo(Todo.PRIORITY_GAP / 2),
+                () -> assertThat(priorityOf(todos.get(1).getId())).isEqualTo(Todo.PRIORITY_GAP),
+                () -> assertThat(priorityOf(todos.get(2).getId())).isEqualTo(2 * Todo.PRIORITY_GAP),
+                () -> assertThat(todoPriorityRenormalizer.isPending(UID, goalId)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 자리로 계속 옮겨 빈 값이 다 차면 재정렬을 요청하고, 재정렬 후에는 순서를 유지한 채 간격이 다시 벌어진다.")
+    public void moveTodo_gapExhausted_renormalizedInBackground() {
+        //given
+        int moves = 0;
+        while (!todoPriorityRenormalizer.isPending(UID, goalId)) {
+            todoService.moveTodo(UID, todos.get(moves % 2 == 0 ? 3 : 2).getId(), 1);
+            moves++;
+        }
+        List<String> orderBeforeRenormalize = orderedContents();
+
+        //when
+        int renormalized = todoPriorityRenormalizer.renormalizePending();
+
+        //then
+        assertAll(
+                () -> assertThat(renormalized).isEqualTo(1),
+                () -> assertThat(orderedContents()).isEqualTo(orderBeforeRenormalize),
+                () -> assertThat(jdbcTemplate.queryForList("SELECT priority FROM todo WHERE uid = ? AND goal_id = ? " +
+                        "ORDER BY priority", Integer.class, UID, goalId))
+                        .containsExactly(0, Todo.PRIORITY_GAP, 2 * Todo.PRIORITY_GAP, 3 * Todo.PRIORITY_GAP)
+        );
+    }
+
+    @Test
+    @DisplayName("이웃 사이에 빈 값이 없으면 그 자리에서 목록을 다시 벌려 옮긴다.")
+    public void moveTodo_noGap_renormalizedInline() {
+        //given
+        jdbcTemplate.update("UPDATE todo SET priority = priority / ? WHERE goal_id = ?", Todo.PRIORITY_GAP, goalId);
+
+        //when
+        todoService.moveTodo(UID, todos.get(0).getId(), 2);
+
+        //then
+        assertAll(
+                () -> assertThat(orderedContents()).containsExactly("할 일 2", "할 일 3", "할 일 1", "할 일 4"),
+                () -> assertThat(priorityOf(todos.get(0).getId())).isEqualTo(2 * Todo.PRIORITY_GAP)
+        );
+    }
+
+    @Test
+    @DisplayName("목록 범위를 벗어난 위치로는 옮길 수 없다.")
+    public void moveTodo_invalidPosition_fail() {
+        assertThatThrownBy(() -> todoService.moveTodo(UID, todos.get(0).getId(), 4))
+                .isInstanceOf(EroojaException.class);
+    }
+
+    private List<String> orderedContents() {
+        return jdbcTemplate.queryForList("SELECT content FROM todo WHERE uid = ? AND goal_id = ? ORDER BY priority, id",
+                String.class, UID, goalId);
+    }
+
+    private int priorityOf(Long todoId) {
+        return jdbcTemplate.queryForObject("SELECT priority FROM todo WHERE id = ?", Integer.class, todoId);
+    }
+}
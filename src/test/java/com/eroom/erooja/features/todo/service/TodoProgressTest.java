@@ -0,0 +1,123 @@
+package com.eroom.erooja.features.todo.service;
+
+import com.eroom.erooja.common.counter.WriteBehindCounter;
+import com.eroom.erooja.common.fixture.MemberGoalFixtures;
+import com.eroom.erooja.domain.enums.GoalRole;
+import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.features.member.dto.MemberWithJobInterestsDTO;
+import com.eroom.erooja.features.membergoal.dto.MemberPageDTO;
+import com.eroom.erooja.features.membergoal.service.MemberGoalService;
+import com.eroom.erooja.features.todo.dto.AddTodoDTO;
+import com.eroom.erooja.features.todo.dto.UpdateTodoDTO;
+import com.eroom.erooja.features.todo.dto.UpdateTodoRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "counterProperties.flushIntervalMillis=3600000")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TodoProgressTest {
+    private static final String UID = "progressUid";
+    private static final String OTHER_UID = "progressOtherUid";
+
+    private final TodoService todoService;
+    private final MemberGoalService memberGoalService;
+    private final WriteBehindCounter writeBehindCounter;
+    private final MemberGoalFixtures memberGoalFixtures;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long goalId;
+
+    @BeforeEach
+    void setUp() {
+        goalId = memberGoalFixtures.createGoal("달성률 목표").getId();
+        memberGoalFixtures.createMembers(Arrays.asList(UID, OTHER_UID));
+        memberGoalFixtures.joinAll(Arrays.asList(UID, OTHER_UID), goalId, GoalRole.PARTICIPANT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindCounter.clear();
+        memberGoalFixtures.deleteGoal(goalId);
+        memberGoalFixtures.deleteMembers(Arrays.asList(UID, OTHER_UID));
+    }
+
+    @Test
+    @DisplayName("할 일 추가, 완료 변경, 목록 수정, 전체 삭제에 따라 참여의 할 일 수와 달성률이 함께 바뀐다.")
+    public void todoProgress_followsTodoChanges() {
+        //given
+        List<Todo> added = todoService.addTodo(UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("할 일 1").priority(0).build(),
+                AddTodoDTO.builder().content("할 일 2").priority(1).build(),
+                AddTodoDTO.builder().content("할 일 3").priority(2).build()));
+        Map<String, Object> afterAdd = progressOf(UID);
+
+        //when
+        todoService.changeEndState(UID, added.get(0).getId(), true);
+        todoService.changeEndState(UID, added.get(0).getId(), true);
+        Map<String, Object> afterCheck = progressOf(UID);
+
+        todoService.updateTodoList(UID, new UpdateTodoRequestDTO(goalId, Arrays.asList(
+                UpdateTodoDTO.builder().content("새 할 일 1").priority(0).isEnd(true).build(),
+                UpdateTodoDTO.builder().content("새 할 일 2").priority(1).isEnd(false).build())));
+        Map<String, Object> afterUpdate = progressOf(UID);
+
+        todoService.deleteTodoAll(goalId, UID);
+        Map<String, Object> afterDelete = progressOf(UID);
+
+        //then
+        assertAll(
+                () -> assertThat(afterAdd).containsEntry("TODO_TOTAL", 3).containsEntry("TODO_DONE", 0),
+                () -> assertThat(afterCheck).containsEntry("TODO_TOTAL", 3).containsEntry("TODO_DONE", 1),
+                () -> assertThat((Double) afterCheck.get("CHECKED_TODO_RATE")).isEqualTo(1 / 3.0, within(0.0001)),
+                () -> assertThat(afterUpdate).containsEntry("TODO_TOTAL", 2).containsEntry("TODO_DONE", 1),
+                () -> assertThat((Double) afterUpdate.get("CHECKED_TODO_RATE")).isEqualTo(0.5, within(0.0001)),
+                () -> assertThat(afterDelete).containsEntry("TODO_TOTAL", 0).containsEntry("TODO_DONE", 0)
+                        .containsEntry("CHECKED_TODO_RATE", 0.0)
+        );
+    }
+
+    @Test
+    @DisplayName("참여자 목록을 저장된 달성률로 정렬해 조회한다.")
+    public void getMembersAllByGoalId_sortByCheckedTodoRate() {
+        //given
+        List<Todo> added = todoService.addTodo(OTHER_UID, goalId, Arrays.asList(
+                AddTodoDTO.builder().content("할 일 1").priority(0).build(),
+                AddTodoDTO.builder().content("할 일 2").priority(1).build()));
+        todoService.changeEndState(OTHER_UID, added.get(1).getId(), true);
+        todoService.addTodo(UID, goalId, Arrays.asList(AddTodoDTO.builder().content("할 일").priority(0).build()));
+
+        //when
+        MemberPageDTO memberPage = memberGoalService.getMembersAllByGoalId(goalId,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "checkedTodoRate")));
+
+        //then
+        assertThat(memberPage.getMembers().stream().map(MemberWithJobInterestsDTO::getUid).collect(Collectors.toList()))
+                .containsExactly(OTHER_UID, UID);
+    }
+
+    private Map<String, Object> progressOf(String uid) {
+        return jdbcTemplate.queryForMap("SELECT todo_total, todo_done, checked_todo_rate FROM member_goal " +
+                "WHERE uid = ? AND goal_id = ?", uid, goalId);
+    }
+}
@@ -1,6 +1,16 @@
 package com.eroom.erooja.features.todo.service;
 
+import com.eroom.erooja.common.dto.SliceResponse;
+import com.eroom.erooja.domain.model.Goal;
+import com.eroom.erooja.domain.model.MemberAuth;
+import com.eroom.erooja.domain.model.MemberGoal;
+import com.eroom.erooja.domain.model.Members;
 import com.eroom.erooja.domain.model.Todo;
+import com.eroom.erooja.domain.repos.MemberAuthRepository;
+import com.eroom.erooja.domain.repos.MemberRepository;
+import com.eroom.erooja.features.goal.repository.GoalRepository;
+import com.eroom.erooja.features.membergoal.repository.MemberGoalRepository;
+import com.eroom.erooja.features.todo.repository.TodoRepository;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,12 +19,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @Profile({"test"}) @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +36,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 public class TodoServiceTest {
     private final TodoService todoService;
+    private final TodoRepository todoRepository;
+    private final GoalRepository goalRepository;
+    private final MemberGoalRepository memberGoalRepository;
+    private final MemberRepository memberRepository;
+    private final MemberAuthRepository memberAuthRepository;
 
     @Test
     @DisplayName("우선순위 검증 (순차적으로 되었는지)(성공)")
@@ -44,7 +63,25 @@ public class TodoServiceTest {
     }
 
     @Test
-    @DisplayName("우선순위 검증 (순차적으로 되었는지)(실패)")
+    @DisplayName("우선순위 검증 (조회한 간격 있는 우선순위 그대로)(성공)")
+    public void isCorrectPriority_sparse_success() throws Exception {
+        //given
+        List<Todo> todoList = new ArrayList();
+        todoList.add(Todo.builder()
+                .priority(0).build());
+        todoList.add(Todo.builder()
+                .priority(Todo.PRIORITY_GAP).build());
+        todoList.add(Todo.builder()
+                .priority(Todo.PRIORITY_GAP * 2 + Todo.PRIORITY_GAP / 2).build());
+
+        Boolean isNotCorrect = todoService.checkPriorityIsNotCorrect(todoList);
+
+        //then
+        assertThat(isNotCorrect).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("우선순위 검증 (앞에서부터 커지는지)(실패)")
     public void isCorrectPriority_fail() throws Exception {
         //given
         List<Todo> todoList = new ArrayList();
@@ -53,11 +90,51 @@ public class TodoServiceTest {
         todoList.add(Todo.builder()
                 .priority(2).build());
         todoList.add(Todo.builder()
-                .priority(3).build());
+                .priority(2).build());
 
         Boolean isNotCorrect = todoService.checkPriorityIsNotCorrect((todoList));
 
         //then
         assertThat(isNotCorrect).isEqualTo(true);
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Slice 조회는 다음 페이지 여부와 요청 시 대략적인 전체 건수를 함께 내려준다.")
+    public void getTodoSlice_success() throws Exception {
+        //given
+        String uid = "todoSliceUid";
+        MemberAuth memberAuth = memberAuthRepository.save(MemberAuth.builder().uid(uid).build());
+        memberRepository.save(Members.builder().uid(uid).memberAuth(memberAuth).build());
+        Goal goal = goalRepository.save(Goal.builder()
+                .title("todo slice")
+                .isDateFixed(false)
+                .isEnd(false).build());
+        MemberGoal memberGoal = memberGoalRepository.save(MemberGoal.builder()
+                .uid(uid)
+                .goalId(goal.getId())
+                .isEnd(false).build());
+
+        for (int i = 0; i < 5; i++) {
+            Todo todo = Todo.builder().content("todo" + i).isEnd(false).priority(i).build();
+            todo.setMemberGoal(memberGoal);
+            todoRepository.save(todo);
+        }
+
+        //when
+        SliceResponse<Todo> firstSlice = todoService.getTodoSliceByGoalIdAndUid(
+                PageRequest.of(0, 3, Sort.by("priority")), goal.getId(), uid, true);
+        SliceResponse<Todo> lastSlice = todoService.getTodoSliceByGoalIdAndUid(
+                PageRequest.of(1, 3, Sort.by("priority")), goal.getId(), uid, false);
+
+        //then
+        assertAll(
+                () -> assertThat(firstSlice.getContent()).extracting(Todo::getPriority).containsExactly(0, 1, 2),
+                () -> assertThat(firstSlice.isHasNext()).isTrue(),
+                () -> assertThat(firstSlice.getApproximateTotal()).isEqualTo(5L),
+                () -> assertThat(lastSlice.getContent()).hasSize(2),
+                () -> assertThat(lastSlice.isHasNext()).isFalse(),
+                () -> assertThat(lastSlice.getApproximateTotal()).isNull()
+        );
+    }
 }